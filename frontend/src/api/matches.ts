@@ -39,11 +39,41 @@ export type CreateMatchRequest = {
   players: CreateMatchPlayerInput[];
 };
 
-export async function fetchMatches(): Promise<MatchSummary[]> {
-  const res = await api.get<MatchSummary[]>("/api/matches");
+export type MatchPage = {
+  matches: MatchSummary[];
+  nextCursor: string | null;
+};
+
+export type MatchSearchParams = {
+  cursor?: string | null;
+  size?: number;
+  winSide?: "BLUE" | "RED" | "PENDING";
+  from?: string;
+  to?: string;
+  memberId?: number;
+};
+
+export async function fetchMatchPage(
+  params: MatchSearchParams = {}
+): Promise<MatchPage> {
+  const res = await api.get<MatchPage>("/api/matches", { params });
   return res.data;
 }
 
+// 모든 페이지를 이어서 조회
+export async function fetchMatches(
+  params: Omit<MatchSearchParams, "cursor"> = {}
+): Promise<MatchSummary[]> {
+  const result: MatchSummary[] = [];
+  let cursor: string | null = null;
+  do {
+    const page: MatchPage = await fetchMatchPage({ ...params, size: 100, cursor });
+    result.push(...page.matches);
+    cursor = page.nextCursor;
+  } while (cursor);
+  return result;
+}
+
 export async function fetchMatchDetail(matchId: number): Promise<MatchDetail> {
   const res = await api.get<MatchDetail>(`/api/matches/${matchId}`);
   return res.data;
@@ -0,0 +1,112 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import com.sungbok.lol.sungboktime.entity.Match;
+import com.sungbok.lol.sungboktime.entity.MatchPlayer;
+import com.sungbok.lol.sungboktime.entity.Member;
+import com.sungbok.lol.sungboktime.service.DataGenerator;
+import com.sungbok.lol.sungboktime.repository.MemberStatsView;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getMembers()의 승률 계산(MemberResponse.from)과 매치 상세의 MatchPlayerResponse.from 매핑 비용.
+ * 할당량은 -Pjmh.profilers=gc 로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"1000"})
+    int members;
+
+    private List<MemberStatsView> views;
+    private List<MatchPlayer> players;
+
+    @Setup
+    public void setUp() {
+        DataGenerator data = new DataGenerator(42);
+        SplittableRandom random = new SplittableRandom(42);
+
+        views = new ArrayList<>(members);
+        List<Member> memberList = new ArrayList<>(members);
+        for (int i = 0; i < members; i++) {
+            Member m = data.member(i);
+            m.setId((long) i + 1);
+            memberList.add(m);
+
+            int games = random.nextInt(300);
+            int wins = games == 0 ? 0 : random.nextInt(games + 1);
+            views.add(new StatsView(m.getId(), m.getName(), m.getRiotId(), m.getTier(),
+                    games, wins, games - wins, 1200 + random.nextInt(600)));
+        }
+
+        Match match = data.match(LocalDateTime.now(), 0.0);
+        match.setId(1L);
+        players = data.players(match, memberList);
+    }
+
+    @Benchmark
+    public List<MemberResponse> memberResponses() {
+        return views.stream()
+                .map(MemberResponse::from)
+                .toList();
+    }
+
+    @Benchmark
+    public List<MatchPlayerResponse> matchPlayerResponses() {
+        return players.stream()
+                .map(MatchPlayerResponse::from)
+                .toList();
+    }
+
+    private record StatsView(Long id, String name, String riotId, String tier,
+                             Integer totalGames, Integer wins, Integer losses, Integer rating)
+            implements MemberStatsView {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getRiotId() {
+            return riotId;
+        }
+
+        @Override
+        public String getTier() {
+            return tier;
+        }
+
+        @Override
+        public Number getTotalGames() {
+            return totalGames;
+        }
+
+        @Override
+        public Number getWins() {
+            return wins;
+        }
+
+        @Override
+        public Number getLosses() {
+            return losses;
+        }
+
+        @Override
+        public Number getRating() {
+            return rating;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.sungbok.lol.sungboktime.fixture;
+
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * {@link SeededApplication}을 trial 단위로 띄워두는 fixture.
+ * 실제 서비스 빈과 쿼리를 그대로 쓰므로 쿼리 수/할당량 회귀를 잡을 수 있다.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    @Param({"1000"})
+    public int members;
+
+    @Param({"100000"})
+    public int matches;
+
+    private ConfigurableApplicationContext context;
+    private Statistics statistics;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = SeededApplication.start(members, matches);
+        statistics = SeededApplication.statistics(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Hibernate가 지금까지 준비한 statement 수
+     */
+    public long statementCount() {
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,32 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.fixture.BenchmarkDatabase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시드된 H2(기본 10만 매치)에서 rating 전체 재계산 한 번의 시간.
+ * 결과 정정 시 백그라운드로 도는 작업이라 요청 지연에는 들어가지 않지만 정정이 반영되기까지의 시간이다.
+ *
+ * ./gradlew jmh -Pjmh.includes=RatingReplayBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class RatingReplayBenchmark {
+
+    private RatingService ratingService;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase db) {
+        this.ratingService = db.bean(RatingService.class);
+    }
+
+    @Benchmark
+    public int replay() {
+        return ratingService.replay();
+    }
+}
@@ -0,0 +1,73 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.MatchDetailResponse;
+import com.sungbok.lol.sungboktime.dto.MatchPageResponse;
+import com.sungbok.lol.sungboktime.dto.MatchSearchRequest;
+import com.sungbok.lol.sungboktime.dto.MemberMatchPageResponse;
+import com.sungbok.lol.sungboktime.dto.MemberResponse;
+import com.sungbok.lol.sungboktime.fixture.BenchmarkDatabase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시드된 H2 위에서 조회 API가 쓰는 서비스 메서드를 그대로 호출한다.
+ * 호출당 Hibernate statement 수는 trial이 끝날 때 출력한다.
+ * 예산 초과는 같은 fixture를 쓰는 ReadPathQueryBudgetTest가 실패로 잡는다.
+ *
+ * ./gradlew jmh -Pjmh.includes=ReadPathBenchmark -Pjmh.profilers=gc
+ * (jmhJar는 Spring 자동설정 목록을 하나만 남기므로 java -jar로는 컨텍스트가 뜨지 않는다)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadPathBenchmark {
+
+    private MemberService memberService;
+    private MatchService matchService;
+    private BenchmarkDatabase db;
+    private SplittableRandom random;
+    private long statementsAtStart;
+    private long ops;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase db) {
+        this.db = db;
+        this.memberService = db.bean(MemberService.class);
+        this.matchService = db.bean(MatchService.class);
+        this.random = new SplittableRandom(7);
+        this.statementsAtStart = db.statementCount();
+    }
+
+    @Benchmark
+    public List<MemberResponse> getMembers() {
+        ops++;
+        return memberService.getMembers();
+    }
+
+    @Benchmark
+    public MatchPageResponse getMatchesFirstPage() {
+        ops++;
+        return matchService.getMatches(new MatchSearchRequest(null, null, null, null, null, null));
+    }
+
+    @Benchmark
+    public MatchDetailResponse getMatchDetail() {
+        ops++;
+        return matchService.getMatchDetail(1L + random.nextInt(db.matches));
+    }
+
+    @Benchmark
+    public MemberMatchPageResponse getMemberMatches() {
+        ops++;
+        return matchService.getMemberMatches(1L + random.nextInt(db.members), null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%n[queries] %.2f statements/op over %d ops%n",
+                (double) (db.statementCount() - statementsAtStart) / Math.max(1, ops), ops);
+    }
+}
@@ -0,0 +1,64 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.TeamBalanceRequest;
+import com.sungbok.lol.sungboktime.dto.TeamBalanceRequest.ScoreMode;
+import com.sungbok.lol.sungboktime.dto.TeamBalanceResponse;
+import com.sungbok.lol.sungboktime.entity.Member;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import com.sungbok.lol.sungboktime.repository.MemberStatsRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * balance()의 점수 계산 + 최적 분할 + 응답 구성. 저장소는 메모리의 멤버를 돌려주는 stub으로 바꾼다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TeamBalanceBenchmark {
+
+    @Param({"10", "20"})
+    int players;
+
+    @Param({"0", "10"})
+    int alternatives;
+
+    private TeamBalanceService service;
+    private TeamBalanceRequest request;
+
+    @Setup
+    public void setUp() {
+        DataGenerator data = new DataGenerator(42);
+        List<Member> members = new ArrayList<>(players);
+        List<Long> ids = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            Member member = data.member(i);
+            member.setId((long) i + 1);
+            members.add(member);
+            ids.add(member.getId());
+        }
+
+        service = new TeamBalanceService(stub(MemberRepository.class, members), stub(MemberStatsRepository.class, List.of()));
+        request = new TeamBalanceRequest(ids, List.of(), List.of(), alternatives, ScoreMode.TIER);
+    }
+
+    @Benchmark
+    public TeamBalanceResponse balance() {
+        return service.balance(request);
+    }
+
+    // findAllById만 쓰이므로 나머지 메서드는 지원하지 않는다
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, List<?> findAllByIdResult) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals("findAllById")) {
+                return findAllByIdResult;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
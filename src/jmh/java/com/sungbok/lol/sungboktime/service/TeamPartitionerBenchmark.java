@@ -0,0 +1,52 @@
+package com.sungbok.lol.sungboktime.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인원/예산별 분할 지연시간과 품질(scoreSpread) 비교.
+ * 품질은 trial이 끝날 때 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TeamPartitionerBenchmark {
+
+    private static final int[] TIER_SCORES = {50, 100, 200, 300, 400, 500, 600, 700, 800};
+
+    @Param({"10", "20", "40"})
+    int players;
+
+    @Param({"2", "4"})
+    int teamCount;
+
+    @Param({"0", "1", "10"})
+    int budgetMillis;
+
+    private int[] scores;
+    private int lastSpread;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        scores = new int[players];
+        for (int i = 0; i < players; i++) {
+            scores[i] = TIER_SCORES[random.nextInt(TIER_SCORES.length)];
+        }
+    }
+
+    @Benchmark
+    public int[] partition() {
+        int[] assignment = TeamPartitioner.partition(scores, teamCount, budgetMillis * 1_000_000L);
+        lastSpread = TeamPartitioner.spread(TeamPartitioner.teamSums(scores, assignment, teamCount));
+        return assignment;
+    }
+
+    @TearDown
+    public void report() {
+        System.out.printf("%n[quality] players=%d teams=%d budget=%dms exact=%s spread=%d%n",
+                players, teamCount, budgetMillis, TeamPartitioner.isExact(players, teamCount), lastSpread);
+    }
+}
@@ -0,0 +1,315 @@
+package com.sungbok.lol.sungboktime.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP 부하 테스트.
+ * mix=read는 목록/밸런스 조회만, mix=mixed는 상세 조회와 매치 생성/결과 입력/멤버 등록까지 가중치대로 섞는다.
+ * platform thread / virtual thread 모드로 각각 서버를 띄우고 label만 바꿔 실행해서 결과를 비교한다.
+ *
+ * <pre>
+ * ./gradlew bootRun --args='--spring.profiles.active=loadtest,seed'
+ * ./gradlew loadTest -Plabel=platform -Pmix=mixed
+ * ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=loadtest,virtual'
+ * ./gradlew loadTest -Plabel=virtual -Pmix=mixed
+ * </pre>
+ */
+public class LoadTestRunner {
+
+    private static final Pattern MEMBER_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern MATCH_ID = Pattern.compile("\"matchId\"\\s*:\\s*(\\d+)");
+
+    private static final String[] POSITIONS = {"TOP", "JUNGLE", "MID", "ADC", "SUPPORT"};
+    private static final String[] CHAMPIONS = {"Ahri", "Lee Sin", "Ezreal", "Kai'Sa", "Thresh", "Yasuo", "Jinx", "Lux"};
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+        int durationSeconds = Integer.parseInt(System.getProperty("duration", "30"));
+        int concurrency = Integer.parseInt(System.getProperty("concurrency", "64"));
+        String label = System.getProperty("label", "default");
+        String mix = System.getProperty("mix", "mixed");
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<Long> memberIds = fetchIds(client, baseUrl + "/api/members", MEMBER_ID);
+        List<Scenario> scenarios = "read".equals(mix)
+                ? scenarios(baseUrl, memberIds)
+                : mixedScenarios(baseUrl, memberIds, fetchIds(client, baseUrl + "/api/matches?size=100", MATCH_ID));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        List<Worker> workers = new ArrayList<>(concurrency);
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(client, scenarios, deadline);
+            workers.add(worker);
+            pool.execute(worker);
+        }
+        pool.shutdown();
+        pool.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS);
+
+        report(label + " / " + mix, durationSeconds, concurrency, scenarios, workers);
+    }
+
+    static List<Scenario> scenarios(String baseUrl, List<Long> memberIds) {
+        List<Scenario> scenarios = new ArrayList<>();
+        scenarios.add(Scenario.of("GET /api/members", 1, () -> get(baseUrl + "/api/members")));
+        scenarios.add(Scenario.of("GET /api/matches", 1, () -> get(baseUrl + "/api/matches?size=20")));
+        if (memberIds.size() >= 10) {
+            scenarios.add(Scenario.of("POST /api/team-balance", 1,
+                    () -> post(baseUrl + "/api/team-balance", "{\"memberIds\":" + pick(memberIds, 10) + "}")));
+        }
+        return scenarios;
+    }
+
+    /**
+     * 읽기 위주에 쓰기를 섞은 워크로드. 생성한 매치는 큐에 넣었다가 결과 입력 시나리오가 꺼내 쓴다.
+     */
+    static List<Scenario> mixedScenarios(String baseUrl, List<Long> memberIds, List<Long> matchIds) {
+        List<Scenario> scenarios = new ArrayList<>();
+        Queue<Long> pendingMatches = new ConcurrentLinkedQueue<>();
+
+        scenarios.add(Scenario.of("GET /api/members", 20, () -> get(baseUrl + "/api/members")));
+        scenarios.add(Scenario.of("GET /api/matches", 20, () -> get(baseUrl + "/api/matches?size=20")));
+        scenarios.add(Scenario.of("GET /api/leaderboard", 10, () -> get(baseUrl + "/api/leaderboard")));
+        if (!matchIds.isEmpty()) {
+            scenarios.add(Scenario.of("GET /api/matches/{id}", 15,
+                    () -> get(baseUrl + "/api/matches/" + pick(matchIds, 1).get(0))));
+        }
+        if (memberIds.size() >= 10) {
+            scenarios.add(Scenario.of("GET /api/members/{id}/matches", 10,
+                    () -> get(baseUrl + "/api/members/" + pick(memberIds, 1).get(0) + "/matches")));
+            scenarios.add(Scenario.of("POST /api/team-balance", 10,
+                    () -> post(baseUrl + "/api/team-balance", "{\"memberIds\":" + pick(memberIds, 10) + "}")));
+            scenarios.add(new Scenario("POST /api/matches", 8,
+                    () -> post(baseUrl + "/api/matches", matchBody(pick(memberIds, 10))),
+                    body -> {
+                        Matcher matcher = MATCH_ID.matcher(body);
+                        if (matcher.find()) {
+                            pendingMatches.add(Long.parseLong(matcher.group(1)));
+                        }
+                    }));
+            scenarios.add(Scenario.of("POST /api/matches/{id}/result", 5, () -> {
+                Long matchId = pendingMatches.poll();
+                if (matchId == null) {
+                    return null;
+                }
+                String winSide = ThreadLocalRandom.current().nextBoolean() ? "BLUE" : "RED";
+                return post(baseUrl + "/api/matches/" + matchId + "/result", "{\"winSide\":\"" + winSide + "\"}");
+            }));
+        }
+        // Riot 호출은 loadtest 프로필의 stub이 받는다
+        scenarios.add(Scenario.of("POST /api/members", 2, () -> {
+            String suffix = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+            return post(baseUrl + "/api/members",
+                    "{\"name\":\"load-" + suffix + "\",\"gameName\":\"load" + suffix + "\",\"tagLine\":\"KR1\"}");
+        }));
+        return scenarios;
+    }
+
+    static String matchBody(List<Long> players) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder body = new StringBuilder("{\"info\":\"loadtest\",\"players\":[");
+        for (int i = 0; i < players.size(); i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"memberId\":").append(players.get(i))
+                    .append(",\"teamSide\":\"").append(i < players.size() / 2 ? "BLUE" : "RED")
+                    .append("\",\"position\":\"").append(POSITIONS[i % POSITIONS.length])
+                    .append("\",\"championName\":\"").append(CHAMPIONS[random.nextInt(CHAMPIONS.length)])
+                    .append("\"}");
+        }
+        return body.append("]}").toString();
+    }
+
+    static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    static List<Long> pick(List<Long> ids, int count) {
+        List<Long> shuffled = new ArrayList<>(ids);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return shuffled.subList(0, count);
+    }
+
+    static List<Long> fetchIds(HttpClient client, String url, Pattern pattern) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(get(url), HttpResponse.BodyHandlers.ofString());
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = pattern.matcher(response.body());
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    static void report(String label, int durationSeconds, int concurrency, List<Scenario> scenarios, List<Worker> workers) {
+        System.out.printf("%n=== %s (concurrency=%d, duration=%ds) ===%n", label, concurrency, durationSeconds);
+        System.out.printf("%-32s %10s %8s %10s %10s %10s %10s%n", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)");
+
+        int total = 0;
+        int totalErrors = 0;
+        long[] merged = new long[0];
+
+        for (int s = 0; s < scenarios.size(); s++) {
+            int count = 0;
+            int errors = 0;
+            for (Worker w : workers) {
+                count += w.counts[s];
+                errors += w.errors[s];
+            }
+            long[] all = new long[count];
+            int offset = 0;
+            for (Worker w : workers) {
+                System.arraycopy(w.latencies[s], 0, all, offset, w.counts[s]);
+                offset += w.counts[s];
+            }
+            Arrays.sort(all);
+            print(scenarios.get(s).name(), count, errors, durationSeconds, all);
+
+            total += count;
+            totalErrors += errors;
+            int previous = merged.length;
+            merged = Arrays.copyOf(merged, previous + all.length);
+            System.arraycopy(all, 0, merged, previous, all.length);
+        }
+
+        Arrays.sort(merged);
+        print("TOTAL", total, totalErrors, durationSeconds, merged);
+    }
+
+    static void print(String name, int count, int errors, int durationSeconds, long[] sorted) {
+        System.out.printf("%-32s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                name, count, errors, (double) count / durationSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99));
+    }
+
+    static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int idx = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, idx)] / 1_000_000.0;
+    }
+
+    /**
+     * factory가 null을 돌려주면 이번 차례는 건너뛴다. onBody가 있으면 2xx 응답 본문을 넘겨준다.
+     */
+    record Scenario(String name, int weight, RequestFactory factory, Consumer<String> onBody) {
+
+        static Scenario of(String name, int weight, RequestFactory factory) {
+            return new Scenario(name, weight, factory, null);
+        }
+    }
+
+    @FunctionalInterface
+    interface RequestFactory {
+        HttpRequest create();
+    }
+
+    /**
+     * 가중치에 따라 시나리오를 골라 호출하며 나노초 단위 지연시간을 시나리오별 배열에 모은다.
+     */
+    static final class Worker implements Runnable {
+        private final HttpClient client;
+        private final List<Scenario> scenarios;
+        private final long deadline;
+        final long[][] latencies;
+        final int[] counts;
+        final int[] errors;
+        private final int[] cumulativeWeights;
+
+        Worker(HttpClient client, List<Scenario> scenarios, long deadline) {
+            this.client = client;
+            this.scenarios = scenarios;
+            this.deadline = deadline;
+            this.latencies = new long[scenarios.size()][1024];
+            this.counts = new int[scenarios.size()];
+            this.errors = new int[scenarios.size()];
+            this.cumulativeWeights = new int[scenarios.size()];
+            int sum = 0;
+            for (int i = 0; i < scenarios.size(); i++) {
+                sum += scenarios.get(i).weight();
+                cumulativeWeights[i] = sum;
+            }
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < deadline) {
+                int s = next();
+                Scenario scenario = scenarios.get(s);
+                HttpRequest request = scenario.factory().create();
+                if (request == null) {
+                    continue;
+                }
+
+                long startedAt = System.nanoTime();
+                try {
+                    if (scenario.onBody() == null) {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            errors[s]++;
+                        }
+                    } else {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() >= 400) {
+                            errors[s]++;
+                        } else {
+                            scenario.onBody().accept(response.body());
+                        }
+                    }
+                } catch (IOException e) {
+                    errors[s]++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                record(s, System.nanoTime() - startedAt);
+            }
+        }
+
+        private int next() {
+            int r = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (r < cumulativeWeights[i]) {
+                    return i;
+                }
+            }
+            return cumulativeWeights.length - 1;
+        }
+
+        private void record(int s, long nanos) {
+            if (counts[s] == latencies[s].length) {
+                latencies[s] = Arrays.copyOf(latencies[s], counts[s] * 2);
+            }
+            latencies[s][counts[s]++] = nanos;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.sungbok.lol.sungboktime.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Async}는 Boot의 applicationTaskExecutor에서 돈다 (virtual 프로파일이면 virtual thread).
+ * 아래 전용 executor가 있어도 Boot가 그 executor를 만들도록 application.yml에서 spring.task.execution.mode=force로 둔다.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    private final boolean virtualThreadsEnabled;
+
+    public AsyncConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        requireVirtualThreadSupport(virtualThreadsEnabled, Runtime.version().feature());
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+    /**
+     * virtual 프로파일을 Java 21 미만에서 켜면 Spring이 조용히 platform thread로 돌아가므로 기동 시점에 실패시킨다.
+     * JAR은 -PjavaVersion=21, 이미지는 --build-arg JAVA_VERSION=21로 빌드해야 한다.
+     */
+    static void requireVirtualThreadSupport(boolean virtualThreadsEnabled, int javaVersion) {
+        if (virtualThreadsEnabled && javaVersion < 21) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true requires Java 21+, but running on Java "
+                    + javaVersion + ". Build with -PjavaVersion=21 and --build-arg JAVA_VERSION=21");
+        }
+    }
+
+    /**
+     * Riot API 호출처럼 대부분 대기하는 작업용 executor.
+     * Java 21 이상이면 virtual thread를 쓰고, 아니면 동시 실행 수를 제한한 platform thread로 동작한다.
+     * 실제 요청 속도는 {@link RiotRateLimiter}가 조절한다.
+     */
+    @Bean
+    public SimpleAsyncTaskExecutor riotTaskExecutor(RiotApiProperties riotApiProperties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("riot-");
+        executor.setVirtualThreads(Runtime.version().feature() >= 21);
+        executor.setConcurrencyLimit(riotApiProperties.getConcurrency());
+        return executor;
+    }
+
+    /**
+     * 티어 갱신 코디네이터 전용 스레드 하나 (virtual 프로파일이면 virtual thread).
+     * 코디네이터가 riotTaskExecutor 자리를 차지한 채 같은 executor에 조회를 넘기면 동시성 한도에서 막힐 수 있어 분리한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor tierRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("tier-refresh-");
+        executor.setVirtualThreads(virtualThreadsEnabled);
+        return executor;
+    }
+
+    /**
+     * rating 전체 재계산 전용 스레드 하나 (virtual 프로파일이면 virtual thread). 몰린 요청은 RatingService가 한 번으로 합친다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor ratingReplayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("rating-replay-");
+        executor.setVirtualThreads(virtualThreadsEnabled);
+        return executor;
+    }
+}
@@ -1,14 +1,94 @@
 package com.sungbok.lol.sungboktime.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
-import org.springframework.stereotype.Component;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-@Component
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
 public class RestTemplateConfig {
 
     @Bean
-    private RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RiotApiProperties riotApiProperties, MeterRegistry meterRegistry) {
+        RestTemplate restTemplate = new RestTemplate(requestFactory(riotApiProperties.getHttp()));
+        restTemplate.getInterceptors().add(latencyInterceptor(meterRegistry));
+        return restTemplate;
+    }
+
+    private ClientHttpRequestFactory requestFactory(RiotApiProperties.Http http) {
+        if (http.getVersion() == RiotApiProperties.HttpVersion.HTTP_2) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(http.getConnectTimeout())
+                    .build();
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(client);
+            factory.setReadTimeout(http.getReadTimeout());
+            return factory;
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(http.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(http.getConnectionTimeToLive()))
+                        .build())
+                .build();
+
+        TimeValue keepAlive = TimeValue.of(http.getKeepAlive());
+
+        return new HttpComponentsClientHttpRequestFactory(HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(http.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(http.getReadTimeout()))
+                        .build())
+                // 서버가 알려준 Keep-Alive timeout이 있으면 그 값과 설정값 중 짧은 쪽
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue server = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(server) && server.compareTo(keepAlive) < 0 ? server : keepAlive;
+                })
+                // keep-alive가 끝났거나 TTL이 지난 커넥션, 오래 놀고 있는 커넥션을 백그라운드에서 닫는다
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive)
+                .build());
+    }
+
+    // 호스트/상태코드별 네트워크 지연시간 히스토그램
+    private ClientHttpRequestInterceptor latencyInterceptor(MeterRegistry meterRegistry) {
+        return (request, body, execution) -> {
+            long startedAt = System.nanoTime();
+            String status = "IO_ERROR";
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                status = String.valueOf(response.getStatusCode().value());
+                return response;
+            } finally {
+                Timer.builder("riot.http.client")
+                        .tag("host", String.valueOf(request.getURI().getHost()))
+                        .tag("status", status)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
     }
 }
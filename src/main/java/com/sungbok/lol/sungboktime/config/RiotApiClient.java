@@ -1,35 +1,131 @@
 package com.sungbok.lol.sungboktime.config;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.sungbok.lol.sungboktime.dto.AccountResponse;
 import com.sungbok.lol.sungboktime.dto.LeagueResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 @Component
-@RequiredArgsConstructor
 public class RiotApiClient {
 
     private static final Logger log = LoggerFactory.getLogger(RiotApiClient.class);
 
+    // method limit 키
+    public static final String ACCOUNT_BY_RIOT_ID = "account-by-riot-id";
+    public static final String LEAGUE_BY_PUUID = "league-by-puuid";
+
     private final RestTemplate restTemplate;
     private final RiotApiProperties riotApiProperties;
+    private final RiotRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    // 값 대신 future를 넣어 같은 키의 동시 조회를 하나로 합친다 (load 참고)
+    private final AsyncCache<String, Cached<AccountResponse>> accountCache;
+    private final AsyncCache<String, Cached<LeagueResponse>> leagueCache;
+
+    public RiotApiClient(RestTemplate restTemplate, RiotApiProperties riotApiProperties,
+                         RiotRateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.riotApiProperties = riotApiProperties;
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+
+        RiotApiProperties.Cache cache = riotApiProperties.getCache();
+        this.accountCache = buildCache(cache.getAccountTtl(), cache.getNegativeTtl(), cache.getMaximumSize());
+        this.leagueCache = buildCache(cache.getLeagueTtl(), cache.getNegativeTtl(), cache.getMaximumSize());
+        CaffeineCacheMetrics.monitor(meterRegistry, accountCache.synchronous(), "riot.account");
+        CaffeineCacheMetrics.monitor(meterRegistry, leagueCache.synchronous(), "riot.league");
+    }
 
     public AccountResponse getAccountByRiotId(String gameName, String tagLine) {
+        String key = (gameName + "#" + tagLine).toLowerCase(Locale.ROOT);
+        Cached<AccountResponse> cached = load(accountCache, key, () -> fetchAccount(gameName, tagLine));
+
+        if (cached.notFound()) {
+            throw new IllegalArgumentException("Riot account not found: " + gameName + "#" + tagLine);
+        }
+        return cached.value();
+    }
+
+    public Optional<LeagueResponse> getSoloRankByPuuid(String puuid) {
+        Cached<LeagueResponse> cached = load(leagueCache, puuid, () -> fetchSoloRank(puuid));
+        return Optional.ofNullable(cached.value());
+    }
+
+    /**
+     * 캐시를 무시하고 다시 조회한 뒤 캐시에 넣는다.
+     */
+    public Optional<LeagueResponse> refreshSoloRank(String puuid) {
+        leagueCache.synchronous().invalidate(puuid);
+        return getSoloRankByPuuid(puuid);
+    }
+
+    /**
+     * 먼저 온 호출이 빈 future를 넣고 자기 스레드에서 Riot을 호출하며, 같은 키의 다른 호출은 그 future를 기다린다.
+     * Cache.get(key, loader)와 달리 HTTP 호출과 rate limit 대기가 캐시 내부 락 밖에서 일어난다.
+     */
+    private static <T> Cached<T> load(AsyncCache<String, Cached<T>> cache, String key, Supplier<Cached<T>> loader) {
+        CompletableFuture<Cached<T>> cached = cache.getIfPresent(key);
+        if (cached == null) {
+            CompletableFuture<Cached<T>> pending = new CompletableFuture<>();
+            cached = cache.asMap().putIfAbsent(key, pending);
+            if (cached == null) {
+                try {
+                    pending.complete(loader.get());
+                } catch (Throwable e) {
+                    // Error여도 기다리는 호출이 멈추지 않게 완료시키고, 캐시에서 빼서 다음 호출이 다시 시도하게 한다
+                    pending.completeExceptionally(e);
+                    cache.asMap().remove(key, pending);
+                    if (e instanceof Error error) {
+                        throw error;
+                    }
+                }
+                cached = pending;
+            }
+        }
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private Cached<AccountResponse> fetchAccount(String gameName, String tagLine) {
         // Build and encode URI to handle non-ASCII and reserved characters
         URI uri = UriComponentsBuilder
                 .fromUriString(riotApiProperties.getAccountBaseUrl())
@@ -42,26 +138,25 @@ public class RiotApiClient {
             log.debug("Requesting Riot Account by Riot ID. URI={}", uri);
         }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("X-Riot-Token", riotApiProperties.getApiKey());
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
-
         try {
-            ResponseEntity<AccountResponse> response = restTemplate.exchange(uri, HttpMethod.GET, entity, AccountResponse.class);
+            ResponseEntity<AccountResponse> response = exchange(uri, ACCOUNT_BY_RIOT_ID, AccountResponse.class);
 
             if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
                 throw new IllegalArgumentException("Failed to fetch account information from Riot API");
             }
 
-            return response.getBody();
+            return Cached.of(response.getBody());
         } catch (HttpClientErrorException e) {
-            // Log details for 4xx errors (bad request, unauthorized, not found)
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                return Cached.missing();
+            }
+            // Log details for 4xx errors (bad request, unauthorized)
             log.error("Riot API request failed: status={} body={} uri={}", e.getStatusCode(), e.getResponseBodyAsString(), uri, e);
             throw e;
         }
     }
 
-    public Optional<LeagueResponse> getSoloRankByPuuid(String puuid) {
+    private Cached<LeagueResponse> fetchSoloRank(String puuid) {
         URI uri = UriComponentsBuilder
                 .fromUriString(riotApiProperties.getLeagueBaseUrl())
                 .path("/lol/league/v4/entries/by-puuid/{puuid}")
@@ -69,12 +164,8 @@ public class RiotApiClient {
                 .encode(StandardCharsets.UTF_8)
                 .toUri();
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("X-Riot-Token", riotApiProperties.getApiKey());
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
-
         try {
-            ResponseEntity<LeagueResponse[]> response = restTemplate.exchange(uri, HttpMethod.GET, entity, LeagueResponse[].class);
+            ResponseEntity<LeagueResponse[]> response = exchange(uri, LEAGUE_BY_PUUID, LeagueResponse[].class);
 
             if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
                 throw new IllegalArgumentException("Failed to fetch league information from Riot API");
@@ -82,12 +173,126 @@ public class RiotApiClient {
 
             List<LeagueResponse> entries = Arrays.asList(response.getBody());
 
-            return entries.stream()
+            // 솔로랭크 기록이 없는 것도 정상 응답이므로 일반 TTL로 캐시
+            return Cached.of(entries.stream()
                     .filter(e -> "RANKED_SOLO_5x5".equals(e.queueType()))
-                    .findFirst();
+                    .findFirst()
+                    .orElse(null));
         } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                return Cached.missing();
+            }
             log.error("Riot API request failed: status={} body={} uri={}", e.getStatusCode(), e.getResponseBodyAsString(), uri, e);
             throw e;
         }
     }
+
+    /**
+     * rate limiter 토큰을 얻은 뒤 요청하고, 429면 Retry-After(없으면 지수 백오프)만큼 호스트를 멈췄다가 재시도한다.
+     */
+    private <T> ResponseEntity<T> exchange(URI uri, String method, Class<T> responseType) {
+        RiotApiProperties.RateLimit rateLimit = riotApiProperties.getRateLimit();
+        String host = uri.getHost();
+        int attempt = 0;
+        while (true) {
+            rateLimiter.acquire(host, method);
+            try {
+                return restTemplate.exchange(uri, HttpMethod.GET, authorized(), responseType);
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                countError(method, "rate_limited");
+                if (attempt >= rateLimit.getMaxRetries()) {
+                    throw e;
+                }
+                Duration backoff = retryAfter(e).orElse(rateLimit.getDefaultRetryAfter().multipliedBy(1L << attempt));
+                log.warn("Riot API rate limited: host={} method={} retryAfter={} attempt={}", host, method, backoff, attempt + 1);
+                rateLimiter.pause(host, backoff);
+                attempt++;
+            } catch (HttpClientErrorException.NotFound e) {
+                // 없는 계정/전적은 정상 흐름이라 에러로 세지 않는다
+                throw e;
+            } catch (HttpStatusCodeException e) {
+                countError(method, String.valueOf(e.getStatusCode().value()));
+                throw e;
+            } catch (ResourceAccessException e) {
+                countError(method, "io");
+                throw e;
+            }
+        }
+    }
+
+    private void countError(String method, String reason) {
+        Counter.builder("riot.api.errors")
+                .tag("method", method)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static Optional<Duration> retryAfter(HttpClientErrorException e) {
+        HttpHeaders headers = e.getResponseHeaders();
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        return value == null ? Optional.empty() : retryAfter(value, Instant.now());
+    }
+
+    /**
+     * Retry-After는 초 단위 숫자 또는 HTTP-date(RFC 1123) 형식이다. 이미 지난 시각이면 0.
+     */
+    static Optional<Duration> retryAfter(String value, Instant now) {
+        String trimmed = value.trim();
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed))));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date로 다시 시도
+        }
+        try {
+            Instant until = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration remaining = Duration.between(now, until);
+            return Optional.of(remaining.isNegative() ? Duration.ZERO : remaining);
+        } catch (DateTimeParseException ignored) {
+            return Optional.empty();
+        }
+    }
+
+    private HttpEntity<Void> authorized() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Riot-Token", riotApiProperties.getApiKey());
+        return new HttpEntity<>(headers);
+    }
+
+    private static <T> AsyncCache<String, Cached<T>> buildCache(Duration ttl, Duration negativeTtl, long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Cached<T>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Cached<T> value, long currentTime) {
+                        return (value.notFound() ? negativeTtl : ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Cached<T> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Cached<T> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * notFound: Riot API가 404를 돌려준 경우 (negative TTL 적용)
+     */
+    private record Cached<T>(T value, boolean notFound) {
+
+        static <T> Cached<T> of(T value) {
+            return new Cached<>(value, false);
+        }
+
+        static <T> Cached<T> missing() {
+            return new Cached<>(null, true);
+        }
+    }
 }
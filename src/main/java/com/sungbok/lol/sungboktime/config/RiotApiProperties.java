@@ -5,6 +5,10 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 @Component
 @ConfigurationProperties(prefix = "riot")
 @Getter
@@ -14,4 +18,68 @@ public class RiotApiProperties {
     private String apiKey;
     private String accountBaseUrl;
     private String leagueBaseUrl;
+    // Riot 호출 동시 실행 수
+    private int concurrency = 32;
+    private Cache cache = new Cache();
+    private RateLimit rateLimit = new RateLimit();
+    private Http http = new Http();
+    private Stub stub = new Stub();
+
+    @Getter
+    @Setter
+    public static class Cache {
+        // riot id -> account (puuid는 바뀌지 않으므로 길게)
+        private Duration accountTtl = Duration.ofHours(24);
+        // puuid -> 솔로랭크 티어
+        private Duration leagueTtl = Duration.ofMinutes(10);
+        // 404 응답
+        private Duration negativeTtl = Duration.ofMinutes(5);
+        private long maximumSize = 10_000;
+    }
+
+    /**
+     * "count:seconds" 목록. 기본값은 development key 기준이므로 production key는 설정으로 올린다.
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private String appLimits = "20:1,100:120";
+        private Map<String, String> methodLimits = new HashMap<>(Map.of(
+                RiotApiClient.ACCOUNT_BY_RIOT_ID, "1000:60",
+                RiotApiClient.LEAGUE_BY_PUUID, "20000:10"
+        ));
+        private int maxRetries = 3;
+        private Duration defaultRetryAfter = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Http {
+        // HTTP_2면 JDK HttpClient(h2 협상, 멀티플렉싱), 아니면 Apache 커넥션 풀(HTTP/1.1 keep-alive)
+        private HttpVersion version = HttpVersion.HTTP_1_1;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+        // 유휴 커넥션 재사용 한도. 서버가 Keep-Alive 헤더로 더 짧게 주면 그 값을 따른다 (HTTP/1.1 풀 전용)
+        private Duration keepAlive = Duration.ofSeconds(30);
+        // 사용 중이어도 이 시간이 지난 커넥션은 반납 시 닫는다. DNS/로드밸런서 변경을 따라가기 위함 (HTTP/1.1 풀 전용)
+        private Duration connectionTimeToLive = Duration.ofMinutes(5);
+        private int maxConnections = 50;
+        private int maxConnectionsPerRoute = 20;
+    }
+
+    public enum HttpVersion {
+        HTTP_1_1, HTTP_2
+    }
+
+    /**
+     * 부하 테스트용 로컬 Riot API stub (RiotStubController)
+     */
+    @Getter
+    @Setter
+    public static class Stub {
+        private boolean enabled = false;
+        // 실제 API 왕복 시간 흉내
+        private Duration latency = Duration.ZERO;
+    }
 }
@@ -0,0 +1,190 @@
+package com.sungbok.lol.sungboktime.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Riot API 클라이언트 측 rate limiter.
+ * 호스트(라우팅 값)마다 app limit 버킷을, 호스트+메서드마다 method limit 버킷을 둔다.
+ * 한도를 넘으면 거절하지 않고 호스트+메서드별 공정 락에서 순서대로 기다린다.
+ * (같은 메서드의 대기자는 모두 같은 버킷을 기다리므로 앞사람 뒤에 줄을 서고, 다른 메서드는 서로 막지 않는다)
+ * 429를 받으면 Retry-After 동안 해당 호스트 전체를 멈춘다.
+ */
+@Component
+public class RiotRateLimiter {
+
+    private final RiotApiProperties.RateLimit properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HostLimiter> hosts = new ConcurrentHashMap<>();
+
+    public RiotRateLimiter(RiotApiProperties riotApiProperties, MeterRegistry meterRegistry) {
+        this.properties = riotApiProperties.getRateLimit();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 요청을 보낼 수 있을 때까지 대기한다.
+     */
+    public void acquire(String host, String method) {
+        hosts.computeIfAbsent(host, this::newHost).acquire(method);
+    }
+
+    /**
+     * 429 응답 후 호출. 지정된 시간 동안 해당 호스트의 모든 요청을 보류한다.
+     */
+    public void pause(String host, Duration duration) {
+        hosts.computeIfAbsent(host, this::newHost).pause(duration);
+    }
+
+    public int queueDepth(String host) {
+        HostLimiter limiter = hosts.get(host);
+        return limiter == null ? 0 : limiter.waiting.get();
+    }
+
+    private HostLimiter newHost(String host) {
+        HostLimiter limiter = new HostLimiter(parse(properties.getAppLimits()),
+                Timer.builder("riot.ratelimit.wait")
+                        .tag("host", host)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+        Gauge.builder("riot.ratelimit.queue", limiter.waiting, AtomicInteger::get)
+                .tag("host", host)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    /**
+     * Riot 헤더와 같은 "count:seconds,count:seconds" 형식
+     */
+    static List<TokenBucket> parse(String spec) {
+        List<TokenBucket> buckets = new ArrayList<>();
+        if (spec == null || spec.isBlank()) {
+            return buckets;
+        }
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            buckets.add(new TokenBucket(Integer.parseInt(pair[0]), Duration.ofSeconds(Long.parseLong(pair[1]))));
+        }
+        return buckets;
+    }
+
+    private final class HostLimiter {
+        private final List<TokenBucket> appBuckets;
+        private final Map<String, MethodQueue> methods = new ConcurrentHashMap<>();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Timer waitTimer;
+        // nanoTime은 기준점이 임의라 0을 "멈추지 않음"으로 쓸 수 없다
+        private boolean paused;
+        private long pausedUntil;
+
+        HostLimiter(List<TokenBucket> appBuckets, Timer waitTimer) {
+            this.appBuckets = appBuckets;
+            this.waitTimer = waitTimer;
+        }
+
+        void acquire(String method) {
+            MethodQueue queue = methods.computeIfAbsent(method,
+                    m -> new MethodQueue(parse(properties.getMethodLimits().get(m))));
+
+            long startedAt = System.nanoTime();
+            waiting.incrementAndGet();
+            queue.lock.lock();
+            try {
+                long wait;
+                while ((wait = tryReserve(queue.buckets)) > 0) {
+                    LockSupport.parkNanos(wait);
+                    if (Thread.interrupted()) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for Riot API rate limit");
+                    }
+                }
+            } finally {
+                queue.lock.unlock();
+                waiting.decrementAndGet();
+                waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        synchronized void pause(Duration duration) {
+            long until = System.nanoTime() + duration.toNanos();
+            if (!paused || until - pausedUntil > 0) {
+                paused = true;
+                pausedUntil = until;
+            }
+        }
+
+        /**
+         * 모든 버킷에 토큰이 있으면 한 개씩 소비하고 0을, 아니면 기다려야 할 나노초를 돌려준다.
+         */
+        private synchronized long tryReserve(List<TokenBucket> methodLimits) {
+            long now = System.nanoTime();
+            long wait = 0;
+            if (paused) {
+                wait = pausedUntil - now;
+                if (wait <= 0) {
+                    paused = false;
+                    wait = 0;
+                }
+            }
+            for (TokenBucket bucket : appBuckets) {
+                wait = Math.max(wait, bucket.nanosUntilAvailable(now));
+            }
+            for (TokenBucket bucket : methodLimits) {
+                wait = Math.max(wait, bucket.nanosUntilAvailable(now));
+            }
+            if (wait > 0) {
+                return wait;
+            }
+
+            appBuckets.forEach(TokenBucket::take);
+            methodLimits.forEach(TokenBucket::take);
+            return 0;
+        }
+    }
+
+    private record MethodQueue(List<TokenBucket> buckets, ReentrantLock lock) {
+
+        MethodQueue(List<TokenBucket> buckets) {
+            this(buckets, new ReentrantLock(true));
+        }
+    }
+
+    /**
+     * window 동안 capacity개를 균등하게 채우는 토큰 버킷. 시작 시 가득 차 있다.
+     */
+    static final class TokenBucket {
+        private final int capacity;
+        private final double nanosPerToken;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(int capacity, Duration window) {
+            this.capacity = capacity;
+            this.nanosPerToken = (double) window.toNanos() / capacity;
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        long nanosUntilAvailable(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) / nanosPerToken);
+            refilledAt = now;
+            return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * nanosPerToken);
+        }
+
+        void take() {
+            tokens -= 1;
+        }
+    }
+}
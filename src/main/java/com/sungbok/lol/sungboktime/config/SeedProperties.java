@@ -0,0 +1,25 @@
+package com.sungbok.lol.sungboktime.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * seed 프로필에서 채울 데이터 양과 분포.
+ */
+@Component
+@ConfigurationProperties(prefix = "seed")
+@Getter
+@Setter
+public class SeedProperties {
+
+    private int members = 1_000;
+    private int matches = 100_000;
+    // 결과 미입력(PENDING) 매치 비율
+    private double pendingRatio = 0.03;
+    // 최근 며칠에 걸쳐 played_at을 분포시킬지
+    private int days = 730;
+    private long randomSeed = 42;
+    private int chunkSize = 1_000;
+}
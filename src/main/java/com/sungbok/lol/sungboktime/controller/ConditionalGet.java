@@ -0,0 +1,27 @@
+package com.sungbok.lol.sungboktime.controller;
+
+import com.sungbok.lol.sungboktime.dto.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * 버전이 같으면 본문을 만들지 않고 304로 응답한다.
+ * no-cache로 내려서 브라우저가 매번 If-None-Match로 재검증하게 한다.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(WebRequest request, ResourceVersion version, Supplier<T> body) {
+        // checkNotModified가 ETag / Last-Modified 헤더를 응답에 넣어준다
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body.get());
+    }
+}
@@ -0,0 +1,28 @@
+package com.sungbok.lol.sungboktime.controller;
+
+import com.sungbok.lol.sungboktime.dto.LeaderboardResponse;
+import com.sungbok.lol.sungboktime.dto.LeaderboardResponse.LeaderboardSort;
+import com.sungbok.lol.sungboktime.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping
+    public LeaderboardResponse getLeaderboard(
+            @RequestParam(defaultValue = "WIN_RATE") LeaderboardSort sort,
+            @RequestParam(defaultValue = "" + LeaderboardService.DEFAULT_MIN_GAMES) int minGames,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return leaderboardService.getLeaderboard(sort, minGames, page, size);
+    }
+}
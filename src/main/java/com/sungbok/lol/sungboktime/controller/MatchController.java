@@ -2,14 +2,20 @@ package com.sungbok.lol.sungboktime.controller;
 
 import com.sungbok.lol.sungboktime.dto.MatchCreateRequest;
 import com.sungbok.lol.sungboktime.dto.MatchDetailResponse;
+import com.sungbok.lol.sungboktime.dto.MatchImportResponse;
+import com.sungbok.lol.sungboktime.dto.MatchPageResponse;
 import com.sungbok.lol.sungboktime.dto.MatchResultRequest;
-import com.sungbok.lol.sungboktime.dto.MatchSummaryResponse;
+import com.sungbok.lol.sungboktime.dto.MatchSearchRequest;
+import com.sungbok.lol.sungboktime.service.MatchImportService;
 import com.sungbok.lol.sungboktime.service.MatchService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/api/matches")
@@ -17,20 +23,36 @@ import java.util.List;
 public class MatchController {
 
     private final MatchService matchService;
+    private final MatchImportService matchImportService;
 
     @PostMapping
     public MatchDetailResponse createMatch(@RequestBody @Valid MatchCreateRequest request) {
         return matchService.createMatch(request);
     }
 
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public MatchImportResponse importNdjson(InputStream body) throws IOException {
+        return matchImportService.importNdjson(body);
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public MatchImportResponse importCsv(InputStream body) throws IOException {
+        return matchImportService.importCsv(body);
+    }
+
     @GetMapping
-    public List<MatchSummaryResponse> getMatches() {
-        return matchService.getMatches();
+    public ResponseEntity<MatchPageResponse> getMatches(@ModelAttribute MatchSearchRequest condition,
+                                                        WebRequest request) {
+        return ConditionalGet.respond(request, matchService.getMatchesVersion(),
+                () -> matchService.getMatches(condition));
     }
 
     @GetMapping("/{matchId}")
-    public MatchDetailResponse getMatchDetail(@PathVariable Long matchId) {
-        return matchService.getMatchDetail(matchId);
+    public ResponseEntity<MatchDetailResponse> getMatchDetail(@PathVariable Long matchId, WebRequest request) {
+        // 없는 매치면 버전 없이 그대로 조회해서 기존 에러 응답을 낸다
+        return matchService.getMatchVersion(matchId)
+                .map(version -> ConditionalGet.respond(request, version, () -> matchService.getMatchDetail(matchId)))
+                .orElseGet(() -> ResponseEntity.ok(matchService.getMatchDetail(matchId)));
     }
 
     @PostMapping("/{matchId}/result")
@@ -1,13 +1,27 @@
 package com.sungbok.lol.sungboktime.controller;
 
+import com.sungbok.lol.sungboktime.dto.MemberBulkCreateResult;
 import com.sungbok.lol.sungboktime.dto.MemberCreateRequest;
+import com.sungbok.lol.sungboktime.dto.MemberMatchPageResponse;
 import com.sungbok.lol.sungboktime.dto.MemberResponse;
+import com.sungbok.lol.sungboktime.dto.PlayStatResponse;
+import com.sungbok.lol.sungboktime.dto.SynergyResponse;
+import com.sungbok.lol.sungboktime.dto.TierRefreshStatus;
+import com.sungbok.lol.sungboktime.service.MatchService;
 import com.sungbok.lol.sungboktime.service.MemberService;
+import com.sungbok.lol.sungboktime.service.PlayStatsService;
+import com.sungbok.lol.sungboktime.service.SynergyService;
+import com.sungbok.lol.sungboktime.service.MemberStatsService;
+import com.sungbok.lol.sungboktime.service.RatingService;
+import com.sungbok.lol.sungboktime.service.TierRefreshService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/members")
@@ -15,14 +29,72 @@ import java.util.List;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MatchService matchService;
+    private final PlayStatsService playStatsService;
+    private final SynergyService synergyService;
+    private final MemberStatsService memberStatsService;
+    private final RatingService ratingService;
+    private final TierRefreshService tierRefreshService;
 
     @GetMapping
-    public List<MemberResponse> getMembers() {
-        return memberService.getMembers();
+    public ResponseEntity<List<MemberResponse>> getMembers(WebRequest request) {
+        return ConditionalGet.respond(request, memberService.getMembersVersion(), memberService::getMembers);
     }
 
     @PostMapping
     public MemberResponse createMember(@RequestBody @Valid MemberCreateRequest request) {
         return memberService.createMember(request);
     }
+
+    @GetMapping("/{memberId}/matches")
+    public MemberMatchPageResponse getMemberMatches(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return matchService.getMemberMatches(memberId, cursor, size);
+    }
+
+    @GetMapping("/{memberId}/champions")
+    public List<PlayStatResponse> getMemberChampions(@PathVariable Long memberId) {
+        return playStatsService.getMemberChampions(memberId);
+    }
+
+    @GetMapping("/{memberId}/positions")
+    public List<PlayStatResponse> getMemberPositions(@PathVariable Long memberId) {
+        return playStatsService.getMemberPositions(memberId);
+    }
+
+    @GetMapping("/{memberId}/synergy")
+    public SynergyResponse getSynergy(
+            @PathVariable Long memberId,
+            @RequestParam(defaultValue = "1") int minGames
+    ) {
+        return synergyService.getSynergy(memberId, minGames);
+    }
+
+    @PostMapping("/bulk")
+    public List<MemberBulkCreateResult> createMembers(@RequestBody List<@Valid MemberCreateRequest> requests) {
+        return memberService.createMembers(requests);
+    }
+
+    @PostMapping("/stats/rebuild")
+    public Map<String, Integer> rebuildStats() {
+        return Map.of("members", memberStatsService.rebuild());
+    }
+
+    @PostMapping("/ratings/replay")
+    public Map<String, Integer> replayRatings() {
+        return Map.of("matches", ratingService.replay());
+    }
+
+    @PostMapping("/tier-refresh")
+    public TierRefreshStatus refreshTiers(@RequestParam(defaultValue = "false") boolean resume) {
+        return tierRefreshService.start(resume);
+    }
+
+    @GetMapping("/tier-refresh")
+    public TierRefreshStatus getTierRefreshStatus() {
+        return tierRefreshService.status();
+    }
 }
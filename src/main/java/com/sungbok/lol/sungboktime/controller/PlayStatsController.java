@@ -0,0 +1,29 @@
+package com.sungbok.lol.sungboktime.controller;
+
+import com.sungbok.lol.sungboktime.dto.PlayStatResponse;
+import com.sungbok.lol.sungboktime.service.PlayStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class PlayStatsController {
+
+    private final PlayStatsService playStatsService;
+
+    @GetMapping("/champions")
+    public List<PlayStatResponse> getChampions(@RequestParam(defaultValue = "20") int limit) {
+        return playStatsService.getChampions(limit);
+    }
+
+    @GetMapping("/positions")
+    public List<PlayStatResponse> getPositions(@RequestParam(defaultValue = "20") int limit) {
+        return playStatsService.getPositions(limit);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sungbok.lol.sungboktime.controller;
+
+import com.sungbok.lol.sungboktime.config.RiotApiProperties;
+import com.sungbok.lol.sungboktime.dto.AccountResponse;
+import com.sungbok.lol.sungboktime.dto.LeagueResponse;
+import com.sungbok.lol.sungboktime.service.DataGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 부하 테스트용 Riot API stub. riot.stub.enabled=true일 때만 등록되고,
+ * loadtest 프로필은 riot base url을 이 서버로 돌린다.
+ * 같은 Riot ID에는 항상 같은 puuid/티어를 돌려주고, gameName이 "missing"으로 시작하면 404.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "riot.stub.enabled", havingValue = "true")
+public class RiotStubController {
+
+    private static final String PUUID_PREFIX = "stub-";
+
+    private final RiotApiProperties riotApiProperties;
+
+    @GetMapping("/riot/account/v1/accounts/by-riot-id/{gameName}/{tagLine}")
+    public ResponseEntity<AccountResponse> getAccount(@PathVariable String gameName, @PathVariable String tagLine) {
+        delay();
+        if (gameName.toLowerCase(Locale.ROOT).startsWith("missing")) {
+            return ResponseEntity.notFound().build();
+        }
+        String puuid = PUUID_PREFIX + (gameName + "#" + tagLine).toLowerCase(Locale.ROOT);
+        return ResponseEntity.ok(new AccountResponse(puuid, gameName, tagLine));
+    }
+
+    @GetMapping("/lol/league/v4/entries/by-puuid/{puuid}")
+    public List<LeagueResponse> getLeagueEntries(@PathVariable String puuid) {
+        delay();
+        String[] tiers = DataGenerator.TIERS;
+        int index = Math.floorMod(puuid.hashCode(), tiers.length);
+        // UNRANKED는 솔로랭크 기록이 없는 응답으로 흉내낸다
+        if (index == 0) {
+            return List.of();
+        }
+        return List.of(new LeagueResponse("RANKED_SOLO_5x5", tiers[index]));
+    }
+
+    private void delay() {
+        Duration latency = riotApiProperties.getStub().getLatency();
+        if (latency.isZero() || latency.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
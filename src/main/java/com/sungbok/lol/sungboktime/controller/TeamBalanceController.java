@@ -2,6 +2,8 @@ package com.sungbok.lol.sungboktime.controller;
 
 import com.sungbok.lol.sungboktime.dto.TeamBalanceRequest;
 import com.sungbok.lol.sungboktime.dto.TeamBalanceResponse;
+import com.sungbok.lol.sungboktime.dto.TeamPartitionRequest;
+import com.sungbok.lol.sungboktime.dto.TeamPartitionResponse;
 import com.sungbok.lol.sungboktime.service.TeamBalanceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -21,4 +23,9 @@ public class TeamBalanceController {
     public TeamBalanceResponse balance(@RequestBody @Valid TeamBalanceRequest request) {
         return teamBalanceService.balance(request);
     }
+
+    @PostMapping("/partition")
+    public TeamPartitionResponse partition(@RequestBody @Valid TeamPartitionRequest request) {
+        return teamBalanceService.partition(request);
+    }
 }
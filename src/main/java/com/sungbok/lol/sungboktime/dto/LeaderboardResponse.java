@@ -0,0 +1,34 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import java.util.List;
+
+public record LeaderboardResponse(
+        LeaderboardSort sort,
+        // 실제로 적용된 최소 판수 (WIN_RATE 외에는 0)
+        int minGames,
+        int totalEntries,
+        List<Entry> entries
+) {
+
+    public enum LeaderboardSort {
+        WIN_RATE, RATING, GAMES
+    }
+
+    public record Entry(
+            int rank,
+            Long memberId,
+            String name,
+            String riotId,
+            String tier,
+            int totalGames,
+            int wins,
+            int losses,
+            double winRate,
+            double rating
+    ) {
+        public static Entry from(int rank, MemberResponse m) {
+            return new Entry(rank, m.id(), m.name(), m.riotId(), m.tier(),
+                    m.totalGames(), m.wins(), m.losses(), m.winRate(), m.rating());
+        }
+    }
+}
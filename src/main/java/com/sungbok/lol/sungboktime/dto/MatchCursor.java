@@ -0,0 +1,32 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (played_at, id) 기준 keyset 커서. 클라이언트에는 불투명한 문자열로 전달한다.
+ */
+public record MatchCursor(
+        LocalDateTime playedAt,
+        Long id
+) {
+    public static MatchCursor of(MatchSummaryResponse last) {
+        return new MatchCursor(last.playedAt(), last.matchId());
+    }
+
+    public String encode() {
+        String raw = playedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MatchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new MatchCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import java.util.List;
+
+/**
+ * matchesRead = imported + failed.
+ * rowsRejected는 매치로 읽지 못한 줄(깨진 JSON, 열 개수가 다른 CSV 행) 수이고 errors에는 둘 다 들어간다.
+ */
+public record MatchImportResponse(
+        int matchesRead,
+        int imported,
+        int failed,
+        int rowsRejected,
+        List<RowError> errors,
+        long elapsedMillis,
+        double matchesPerSecond
+) {
+
+    public record RowError(
+            long line,
+            String message
+    ) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import java.util.List;
+
+public record MatchPageResponse(
+        List<MatchSummaryResponse> matches,
+        String nextCursor
+) {
+}
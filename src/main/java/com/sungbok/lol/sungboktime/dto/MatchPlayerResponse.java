@@ -1,6 +1,5 @@
 package com.sungbok.lol.sungboktime.dto;
 
-import com.sungbok.lol.sungboktime.entity.Match;
 import com.sungbok.lol.sungboktime.entity.MatchPlayer;
 
 public record MatchPlayerResponse(
@@ -13,12 +12,16 @@ public record MatchPlayerResponse(
         String championName
 ) {
     public static MatchPlayerResponse from(MatchPlayer p) {
+        return from(p, p.getIsWin());
+    }
+
+    public static MatchPlayerResponse from(MatchPlayer p, Boolean isWin) {
         return new MatchPlayerResponse(
                 p.getMember().getId(),
                 p.getMember().getName(),
                 p.getMember().getRiotId(),
                 p.getTeamSide(),
-                p.getIsWin(),
+                isWin,
                 p.getPosition(),
                 p.getChampionName()
         );
@@ -0,0 +1,27 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import com.sungbok.lol.sungboktime.entity.Match;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+public record MatchSearchRequest(
+        String cursor,
+        Integer size,
+        Match.WinSide winSide,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime to,
+        Long memberId
+) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public int pageSize() {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
@@ -0,0 +1,9 @@
+package com.sungbok.lol.sungboktime.dto;
+
+public record MemberBulkCreateResult(
+        String gameName,
+        String tagLine,
+        MemberResponse member,
+        String error
+) {
+}
@@ -0,0 +1,9 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import java.util.List;
+
+public record MemberMatchPageResponse(
+        List<MemberMatchResponse> matches,
+        String nextCursor
+) {
+}
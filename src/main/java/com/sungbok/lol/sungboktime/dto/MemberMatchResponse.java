@@ -0,0 +1,43 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import com.sungbok.lol.sungboktime.entity.MatchPlayer.TeamSide;
+import com.sungbok.lol.sungboktime.repository.MatchParticipantView;
+import com.sungbok.lol.sungboktime.repository.MemberMatchView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record MemberMatchResponse(
+        Long matchId,
+        LocalDateTime playedAt,
+        TeamSide teamSide,
+        Result result,
+        String position,
+        String championName,
+        List<Teammate> teammates
+) {
+
+    public enum Result {
+        WIN, LOSS, PENDING
+    }
+
+    public static MemberMatchResponse from(MemberMatchView v, List<Teammate> teammates) {
+        Result result = v.getWinSide() == WinSide.PENDING
+                ? Result.PENDING
+                : v.getWinSide().name().equals(v.getTeamSide().name()) ? Result.WIN : Result.LOSS;
+        return new MemberMatchResponse(v.getMatchId(), v.getPlayedAt(), v.getTeamSide(), result,
+                v.getPosition(), v.getChampionName(), teammates);
+    }
+
+    public record Teammate(
+            Long memberId,
+            String name,
+            String position,
+            String championName
+    ) {
+        public static Teammate from(MatchParticipantView v) {
+            return new Teammate(v.getMemberId(), v.getName(), v.getPosition(), v.getChampionName());
+        }
+    }
+}
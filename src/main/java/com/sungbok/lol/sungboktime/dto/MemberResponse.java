@@ -1,6 +1,8 @@
 package com.sungbok.lol.sungboktime.dto;
 
 import com.sungbok.lol.sungboktime.entity.Member;
+import com.sungbok.lol.sungboktime.entity.MemberStats;
+import com.sungbok.lol.sungboktime.repository.MemberStatsView;
 
 public record MemberResponse(
         Long id,
@@ -10,7 +12,8 @@ public record MemberResponse(
         Integer totalGames,
         Integer wins,
         Integer losses,
-        Double winRate
+        Double winRate,
+        Double rating
 ) {
     public static MemberResponse from(Member m, int totalGames, int wins, int losses, double winRate) {
         return new MemberResponse(
@@ -21,7 +24,25 @@ public record MemberResponse(
                 totalGames,
                 wins,
                 losses,
-                winRate
+                winRate,
+                MemberStats.INITIAL_RATING
+        );
+    }
+
+    public static MemberResponse from(MemberStatsView v) {
+        int totalGames = v.getTotalGames().intValue();
+        int wins = v.getWins().intValue();
+        double winRate = totalGames > 0 ? (double) wins / totalGames * 100 : 0.0;
+        return new MemberResponse(
+                v.getId(),
+                v.getName(),
+                v.getRiotId(),
+                v.getTier(),
+                totalGames,
+                wins,
+                v.getLosses().intValue(),
+                winRate,
+                v.getRating().doubleValue()
         );
     }
 }
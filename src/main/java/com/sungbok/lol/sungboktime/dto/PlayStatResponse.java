@@ -0,0 +1,21 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import com.sungbok.lol.sungboktime.repository.PlayStatView;
+
+/**
+ * 챔피언/포지션 단위 집계. winRate는 결과가 나온 판(wins + losses) 기준.
+ */
+public record PlayStatResponse(
+        String name,
+        Integer games,
+        Integer wins,
+        Integer losses,
+        Double winRate
+) {
+    public static PlayStatResponse from(PlayStatView v) {
+        int wins = v.getWins().intValue();
+        int losses = v.getLosses().intValue();
+        double winRate = wins + losses > 0 ? (double) wins / (wins + losses) * 100 : 0.0;
+        return new PlayStatResponse(v.getName(), v.getGames().intValue(), wins, losses, winRate);
+    }
+}
@@ -0,0 +1,19 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조회 API의 조건부 GET(ETag / Last-Modified)에 쓰는 버전.
+ */
+public record ResourceVersion(
+        String etag,
+        long lastModified
+) {
+    public static ResourceVersion of(String key, LocalDateTime lastModified) {
+        long millis = lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        return new ResourceVersion("\"" + key + "-" + millis + "\"", millis);
+    }
+}
@@ -0,0 +1,34 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import java.util.List;
+
+public record SynergyResponse(
+        Long memberId,
+        List<Entry> entries
+) {
+
+    /**
+     * together*: 같은 팀으로 뛴 기록, against*: 상대 팀으로 만난 기록 (memberId 기준 승수)
+     */
+    public record Entry(
+            Long memberId,
+            String name,
+            Integer togetherGames,
+            Integer togetherWins,
+            Double togetherWinRate,
+            Integer againstGames,
+            Integer againstWins,
+            Double againstWinRate
+    ) {
+        public static Entry of(Long memberId, String name, int togetherGames, int togetherWins,
+                               int againstGames, int againstWins) {
+            return new Entry(memberId, name,
+                    togetherGames, togetherWins, rate(togetherWins, togetherGames),
+                    againstGames, againstWins, rate(againstWins, againstGames));
+        }
+
+        private static double rate(int wins, int games) {
+            return games > 0 ? (double) wins / games * 100 : 0.0;
+        }
+    }
+}
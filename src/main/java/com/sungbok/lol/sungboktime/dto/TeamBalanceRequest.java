@@ -6,6 +6,18 @@ import java.util.List;
 
 public record TeamBalanceRequest(
         @NotNull
-        List<Long> memberIds
+        List<Long> memberIds,
+        // 같은 팀으로 묶을 멤버 쌍
+        List<List<Long>> together,
+        // 서로 다른 팀으로 나눌 멤버 쌍
+        List<List<Long>> apart,
+        // 최적 분할 외에 함께 돌려줄 후보 수
+        Integer alternatives,
+        // 점수 기준 (기본 TIER)
+        ScoreMode scoreMode
 ) {
+
+    public enum ScoreMode {
+        TIER, RATING
+    }
 }
@@ -8,7 +8,9 @@ public record TeamBalanceResponse(
         List<TeamMemberDto> blueTeam,
         int blueTeamScore,
         List<TeamMemberDto> redTeam,
-        int redTeamScore
+        int redTeamScore,
+        int scoreDifference,
+        List<Alternative> alternatives
 ) {
 
     public record TeamMemberDto(
@@ -22,4 +24,13 @@ public record TeamBalanceResponse(
             return new TeamMemberDto(m.getId(), m.getName(), m.getRiotId(), m.getTier(), score);
         }
     }
+
+    public record Alternative(
+            List<Long> blueMemberIds,
+            int blueTeamScore,
+            List<Long> redMemberIds,
+            int redTeamScore,
+            int scoreDifference
+    ) {
+    }
 }
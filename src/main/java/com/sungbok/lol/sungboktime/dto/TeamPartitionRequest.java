@@ -0,0 +1,18 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record TeamPartitionRequest(
+        @NotNull
+        List<Long> memberIds,
+        @NotNull
+        @Min(2)
+        Integer teamCount,
+        // heuristic 탐색 시간 예산 (기본 20ms)
+        Integer timeBudgetMillis,
+        TeamBalanceRequest.ScoreMode scoreMode
+) {
+}
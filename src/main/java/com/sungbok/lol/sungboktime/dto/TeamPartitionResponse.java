@@ -0,0 +1,22 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import com.sungbok.lol.sungboktime.dto.TeamBalanceResponse.TeamMemberDto;
+
+import java.util.List;
+
+public record TeamPartitionResponse(
+        List<Team> teams,
+        int scoreSpread,
+        boolean exact
+) {
+
+    /**
+     * lobby: 합이 비슷한 두 팀씩 묶은 매치 번호. 팀 수가 홀수면 한 팀은 -1(대기)
+     */
+    public record Team(
+            int lobby,
+            List<TeamMemberDto> members,
+            int score
+    ) {
+    }
+}
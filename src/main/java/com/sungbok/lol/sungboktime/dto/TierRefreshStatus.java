@@ -0,0 +1,15 @@
+package com.sungbok.lol.sungboktime.dto;
+
+import java.time.LocalDateTime;
+
+public record TierRefreshStatus(
+        boolean running,
+        int total,
+        int processed,
+        int changed,
+        int failed,
+        Long lastMemberId,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+}
@@ -8,7 +8,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+        @Index(name = "idx_matches_played_at_id", columnList = "played_at, id"),
+        @Index(name = "idx_matches_win_side_played_at_id", columnList = "win_side, played_at, id"),
+        @Index(name = "idx_matches_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,10 +31,11 @@ public class Match {
     private String info;
 
     @Enumerated(EnumType.STRING)
-    @Column(name = "win_side", nullable = false, columnDefinition = "varchar(10) default 'PENDING'")
+    @Column(name = "win_side", nullable = false, columnDefinition = "enum ('BLUE','RED','PENDING') default 'PENDING'")
     private WinSide winSide;
 
-    @OneToMany(mappedBy = "match", cascade = CascadeType.ALL, orphanRemoval = true)
+    // match_players는 MatchPlayerJdbcRepository가 batch로 insert하므로 cascade하지 않는다 (cascade하면 flush 때 한 번 더 insert된다)
+    @OneToMany(mappedBy = "match")
     @Builder.Default
     private List<MatchPlayer> players = new ArrayList<>();
 
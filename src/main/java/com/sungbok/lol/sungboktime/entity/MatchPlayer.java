@@ -7,7 +7,13 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "match_players")
+// 스키마는 db/migration이 관리한다. 아래 인덱스는 V2와 같게 유지
+@Table(name = "match_players", indexes = {
+        @Index(name = "idx_match_players_member_cover",
+                columnList = "member_id, match_id, team_side, win, position, champion_name"),
+        @Index(name = "idx_match_players_match_cover",
+                columnList = "match_id, member_id, team_side, win, position, champion_name")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -34,10 +40,10 @@ public class MatchPlayer {
     @Column(name = "win", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
     private Boolean isWin;
 
-    @Column
+    @Column(length = 64)
     private String position;
 
-    @Column(name = "champion_name")
+    @Column(name = "champion_name", length = 64)
     private String championName;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "members")
+@Table(name = "members", indexes = {
+        @Index(name = "uk_members_riot_puuid", columnList = "riot_puuid", unique = true),
+        @Index(name = "idx_members_riot_id", columnList = "riot_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,46 @@
+package com.sungbok.lol.sungboktime.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 멤버별 position 집계. match_players로부터 증분 갱신된다.
+ */
+@Entity
+@Table(name = "member_position_stats")
+@IdClass(MemberPositionStats.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberPositionStats {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Id
+    @Column(name = "position", length = 64)
+    private String position;
+
+    @Column(nullable = false)
+    private int games;
+
+    @Column(nullable = false)
+    private int wins;
+
+    @Column(nullable = false)
+    private int losses;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long memberId;
+        private String position;
+    }
+}
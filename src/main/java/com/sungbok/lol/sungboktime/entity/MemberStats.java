@@ -0,0 +1,48 @@
+package com.sungbok.lol.sungboktime.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "member_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberStats {
+
+    public static final double INITIAL_RATING = 1500.0;
+    public static final double INITIAL_RATING_DEVIATION = 350.0;
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "total_games", nullable = false)
+    private int totalGames;
+
+    @Column(nullable = false)
+    private int wins;
+
+    @Column(nullable = false)
+    private int losses;
+
+    @Column(name = "last_played_at")
+    private LocalDateTime lastPlayedAt;
+
+    // MySQL이 UPDATE마다 갱신한다 (조회 API의 ETag 계산용)
+    @Column(name = "updated_at", insertable = false, updatable = false,
+            columnDefinition = "datetime(6) not null default current_timestamp(6) on update current_timestamp(6)")
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false, columnDefinition = "double default 1500")
+    @Builder.Default
+    private double rating = INITIAL_RATING;
+
+    @Column(name = "rating_deviation", nullable = false, columnDefinition = "double default 350")
+    @Builder.Default
+    private double ratingDeviation = INITIAL_RATING_DEVIATION;
+}
@@ -0,0 +1,65 @@
+package com.sungbok.lol.sungboktime.repository;
+
+import com.sungbok.lol.sungboktime.entity.Match;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 import용 matches batch insert. 생성된 키는 입력 순서대로 각 Match에 채워준다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO matches (played_at, info, win_side, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Match m = matches.get(i);
+                        ps.setTimestamp(1, Timestamp.valueOf(m.getPlayedAt()));
+                        ps.setString(2, m.getInfo());
+                        ps.setString(3, m.getWinSide().name());
+                        ps.setTimestamp(4, now);
+                        ps.setTimestamp(5, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return matches.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < matches.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            matches.get(i).setId(id.longValue());
+        }
+    }
+}
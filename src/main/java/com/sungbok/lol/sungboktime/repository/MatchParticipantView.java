@@ -0,0 +1,18 @@
+package com.sungbok.lol.sungboktime.repository;
+
+import com.sungbok.lol.sungboktime.entity.MatchPlayer.TeamSide;
+
+public interface MatchParticipantView {
+
+    Long getMatchId();
+
+    Long getMemberId();
+
+    String getName();
+
+    TeamSide getTeamSide();
+
+    String getPosition();
+
+    String getChampionName();
+}
@@ -0,0 +1,42 @@
+package com.sungbok.lol.sungboktime.repository;
+
+import com.sungbok.lol.sungboktime.entity.MatchPlayer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * match_players는 IDENTITY 키라 Hibernate가 insert를 배치로 묶지 못한다.
+ * 대량 insert는 JdbcTemplate batch로 직접 처리한다 (rewriteBatchedStatements 사용).
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchPlayerJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO match_players (match_id, member_id, team_side, win, position, champion_name, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<MatchPlayer> players) {
+        if (players.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, players, players.size(), (ps, p) -> {
+            ps.setLong(1, p.getMatch().getId());
+            ps.setLong(2, p.getMember().getId());
+            ps.setString(3, p.getTeamSide().name());
+            ps.setBoolean(4, Boolean.TRUE.equals(p.getIsWin()));
+            ps.setString(5, p.getPosition());
+            ps.setString(6, p.getChampionName());
+            ps.setTimestamp(7, now);
+        });
+    }
+}
@@ -1,12 +1,18 @@
 package com.sungbok.lol.sungboktime.repository;
 
 import com.sungbok.lol.sungboktime.entity.MatchPlayer;
+import com.sungbok.lol.sungboktime.entity.MatchPlayer.TeamSide;
 import com.sungbok.lol.sungboktime.entity.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface MatchPlayerRepository extends JpaRepository<MatchPlayer, Long> {
     List<MatchPlayer> findByMember(Member member);
@@ -22,4 +28,32 @@ public interface MatchPlayerRepository extends JpaRepository<MatchPlayer, Long>
             "WHERE mp.member_id = :memberId AND m.win_side != 'PENDING'", 
             nativeQuery = true)
     List<MatchPlayer> findCompletedMatchesByMemberId(@Param("memberId") Long memberId);
+
+    // 멤버 전적 keyset 페이지 (played_at, match id 내림차순)
+    @Query("SELECT m.id AS matchId, m.playedAt AS playedAt, m.winSide AS winSide, " +
+            "mp.teamSide AS teamSide, mp.position AS position, mp.championName AS championName " +
+            "FROM MatchPlayer mp JOIN mp.match m " +
+            "WHERE mp.member.id = :memberId " +
+            "AND (:cursorPlayedAt IS NULL OR m.playedAt < :cursorPlayedAt " +
+            "     OR (m.playedAt = :cursorPlayedAt AND m.id < :cursorId)) " +
+            "ORDER BY m.playedAt DESC, m.id DESC")
+    List<MemberMatchView> findMemberMatches(@Param("memberId") Long memberId,
+                                            @Param("cursorPlayedAt") LocalDateTime cursorPlayedAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Limit limit);
+
+    @Query("SELECT mp.match.id AS matchId, mem.id AS memberId, mem.name AS name, " +
+            "mp.teamSide AS teamSide, mp.position AS position, mp.championName AS championName " +
+            "FROM MatchPlayer mp JOIN mp.member mem " +
+            "WHERE mp.match.id IN :matchIds")
+    List<MatchParticipantView> findParticipants(@Param("matchIds") Collection<Long> matchIds);
+
+    // 매치 상세는 멤버 이름/Riot ID를 담으므로 참가자 멤버의 변경 시각도 버전에 들어간다
+    @Query("SELECT MAX(mem.updatedAt) FROM MatchPlayer mp JOIN mp.member mem WHERE mp.match.id = :matchId")
+    Optional<LocalDateTime> findPlayersLastModified(@Param("matchId") Long matchId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MatchPlayer mp SET mp.isWin = CASE WHEN mp.teamSide = :winningSide THEN true ELSE false END " +
+            "WHERE mp.match.id = :matchId")
+    int updateResult(@Param("matchId") Long matchId, @Param("winningSide") TeamSide winningSide);
 }
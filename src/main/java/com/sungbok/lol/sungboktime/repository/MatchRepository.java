@@ -1,7 +1,56 @@
 package com.sungbok.lol.sungboktime.repository;
 
+import com.sungbok.lol.sungboktime.dto.MatchSummaryResponse;
 import com.sungbok.lol.sungboktime.entity.Match;
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface MatchRepository extends JpaRepository<Match, Long> {
+
+    // match + players + member를 한 번의 쿼리로 로드
+    @Query("SELECT DISTINCT m FROM Match m " +
+            "LEFT JOIN FETCH m.players p " +
+            "LEFT JOIN FETCH p.member " +
+            "WHERE m.id = :matchId")
+    Optional<Match> findWithPlayersById(@Param("matchId") Long matchId);
+
+    // id는 단조 증가하고 결과 변경은 updated_at을 갱신하므로, 둘의 최댓값이 목록의 버전이 된다
+    @Query("SELECT COALESCE(MAX(m.id), 0) AS maxId, MAX(m.updatedAt) AS lastModified FROM Match m")
+    VersionView findVersion();
+
+    @Query("SELECT m.updatedAt FROM Match m WHERE m.id = :matchId")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("matchId") Long matchId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Match m SET m.winSide = :winSide, m.updatedAt = :updatedAt WHERE m.id = :matchId")
+    int updateWinSide(@Param("matchId") Long matchId,
+                      @Param("winSide") WinSide winSide,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 최신순 keyset 페이지. 커서가 없으면 첫 페이지
+    @Query("SELECT new com.sungbok.lol.sungboktime.dto.MatchSummaryResponse(m.id, m.playedAt, m.info, m.winSide) " +
+            "FROM Match m " +
+            "WHERE (:winSide IS NULL OR m.winSide = :winSide) " +
+            "AND (:from IS NULL OR m.playedAt >= :from) " +
+            "AND (:to IS NULL OR m.playedAt < :to) " +
+            "AND (:cursorPlayedAt IS NULL OR m.playedAt < :cursorPlayedAt " +
+            "     OR (m.playedAt = :cursorPlayedAt AND m.id < :cursorId)) " +
+            "AND (:memberId IS NULL OR EXISTS " +
+            "     (SELECT 1 FROM MatchPlayer mp WHERE mp.match = m AND mp.member.id = :memberId)) " +
+            "ORDER BY m.playedAt DESC, m.id DESC")
+    List<MatchSummaryResponse> findSummaries(@Param("winSide") WinSide winSide,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("memberId") Long memberId,
+                                             @Param("cursorPlayedAt") LocalDateTime cursorPlayedAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Limit limit);
 }
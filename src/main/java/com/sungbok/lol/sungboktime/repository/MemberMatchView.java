@@ -0,0 +1,21 @@
+package com.sungbok.lol.sungboktime.repository;
+
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import com.sungbok.lol.sungboktime.entity.MatchPlayer.TeamSide;
+
+import java.time.LocalDateTime;
+
+public interface MemberMatchView {
+
+    Long getMatchId();
+
+    LocalDateTime getPlayedAt();
+
+    WinSide getWinSide();
+
+    TeamSide getTeamSide();
+
+    String getPosition();
+
+    String getChampionName();
+}
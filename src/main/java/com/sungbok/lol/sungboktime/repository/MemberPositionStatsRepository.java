@@ -0,0 +1,63 @@
+package com.sungbok.lol.sungboktime.repository;
+
+import com.sungbok.lol.sungboktime.entity.MemberPositionStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MemberPositionStatsRepository extends JpaRepository<MemberPositionStats, MemberPositionStats.Key> {
+
+    /**
+     * 한 매치의 참가자 행을 upsert. win 여부에 따라 승리팀/패배팀 증감값을 골라 더한다.
+     * INSERT ... SELECT에는 VALUES ... AS new 행 별칭을 붙일 수 없어서 파생 테이블 별칭으로 증감값을 참조한다
+     * (VALUES() 함수는 MySQL 8.0.20부터 deprecated).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO member_position_stats (member_id, position, games, wins, losses) " +
+            "SELECT * FROM (" +
+            "SELECT mp.member_id, mp.position, :games AS games, " +
+            "CASE WHEN mp.win = 1 THEN :winnerWins ELSE :loserWins END AS wins, " +
+            "CASE WHEN mp.win = 1 THEN :winnerLosses ELSE :loserLosses END AS losses " +
+            "FROM match_players mp WHERE mp.match_id = :matchId AND mp.position IS NOT NULL" +
+            ") AS new " +
+            "ON DUPLICATE KEY UPDATE games = member_position_stats.games + new.games, " +
+            "wins = member_position_stats.wins + new.wins, losses = member_position_stats.losses + new.losses",
+            nativeQuery = true)
+    int upsertMatch(@Param("matchId") Long matchId,
+                    @Param("games") int games,
+                    @Param("winnerWins") int winnerWins,
+                    @Param("winnerLosses") int winnerLosses,
+                    @Param("loserWins") int loserWins,
+                    @Param("loserLosses") int loserLosses);
+
+    @Query(value = "SELECT s.position AS name, s.games AS games, s.wins AS wins, s.losses AS losses " +
+            "FROM member_position_stats s WHERE s.member_id = :memberId " +
+            "ORDER BY s.games DESC, s.wins DESC",
+            nativeQuery = true)
+    List<PlayStatView> findByMember(@Param("memberId") Long memberId);
+
+    @Query(value = "SELECT s.position AS name, SUM(s.games) AS games, SUM(s.wins) AS wins, SUM(s.losses) AS losses " +
+            "FROM member_position_stats s GROUP BY s.position " +
+            "ORDER BY games DESC, wins DESC LIMIT :limit",
+            nativeQuery = true)
+    List<PlayStatView> findGlobal(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM member_position_stats", nativeQuery = true)
+    int deleteAllInBulk();
+
+    // match_players 전체를 다시 집계 (결과 미정 매치는 games에만 포함)
+    @Modifying
+    @Query(value = "INSERT INTO member_position_stats (member_id, position, games, wins, losses) " +
+            "SELECT mp.member_id, mp.position, COUNT(*), " +
+            "SUM(CASE WHEN mt.win_side != 'PENDING' AND mp.win = 1 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN mt.win_side != 'PENDING' AND COALESCE(mp.win, 0) = 0 THEN 1 ELSE 0 END) " +
+            "FROM match_players mp JOIN matches mt ON mt.id = mp.match_id " +
+            "WHERE mp.position IS NOT NULL " +
+            "GROUP BY mp.member_id, mp.position",
+            nativeQuery = true)
+    int insertRecomputed();
+}
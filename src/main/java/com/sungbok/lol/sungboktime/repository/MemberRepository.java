@@ -2,11 +2,64 @@ package com.sungbok.lol.sungboktime.repository;
 
 import com.sungbok.lol.sungboktime.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByRiotId(String riotId);
+
+    // riot_id는 unique가 아니다 (이름을 바꾼 뒤 다른 사람이 같은 Riot ID를 쓸 수 있다)
+    @Query("SELECT m.id FROM Member m WHERE m.riotId = :riotId")
+    List<Long> findIdsByRiotId(@Param("riotId") String riotId);
+
+    @Query("SELECT m.id FROM Member m WHERE m.riotPuuid = :riotPuuid")
+    Optional<Long> findIdByRiotPuuid(@Param("riotPuuid") String riotPuuid);
+
+    // riot_puuid unique 인덱스 기준 upsert. 이미 있으면 Riot ID/티어만 갱신하고 이름은 유지
+    // (updated_at을 먼저 계산해야 바뀌기 전 값과 비교할 수 있다)
+    @Modifying
+    @Query(value = "INSERT INTO members (name, riot_id, riot_puuid, tier, created_at, updated_at) " +
+            "VALUES (:name, :riotId, :riotPuuid, :tier, :now, :now) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            "updated_at = CASE WHEN members.riot_id <> new.riot_id OR members.tier <> new.tier " +
+            "                  THEN new.updated_at ELSE members.updated_at END, " +
+            "riot_id = new.riot_id, " +
+            "tier = new.tier",
+            nativeQuery = true)
+    int upsertByRiotPuuid(@Param("name") String name,
+                          @Param("riotId") String riotId,
+                          @Param("riotPuuid") String riotPuuid,
+                          @Param("tier") String tier,
+                          @Param("now") LocalDateTime now);
+
+    @Query("SELECT m.id FROM Member m")
+    List<Long> findAllIds();
+
+    @Query("SELECT COALESCE(MAX(m.id), 0) AS maxId, MAX(m.updatedAt) AS lastModified FROM Member m")
+    VersionView findVersion();
+
+    @Query(value = "SELECT m.id AS id, m.name AS name, m.riot_id AS riotId, m.tier AS tier, " +
+            "COALESCE(s.total_games, 0) AS totalGames, COALESCE(s.wins, 0) AS wins, " +
+            "COALESCE(s.losses, 0) AS losses, COALESCE(s.rating, 1500) AS rating " +
+            "FROM members m " +
+            "LEFT JOIN member_stats s ON s.member_id = m.id " +
+            "ORDER BY m.id",
+            nativeQuery = true)
+    List<MemberStatsView> findAllWithStats();
+
+    @Query(value = "SELECT m.id AS id, m.name AS name, m.riot_id AS riotId, m.tier AS tier, " +
+            "COALESCE(s.total_games, 0) AS totalGames, COALESCE(s.wins, 0) AS wins, " +
+            "COALESCE(s.losses, 0) AS losses, COALESCE(s.rating, 1500) AS rating " +
+            "FROM members m " +
+            "LEFT JOIN member_stats s ON s.member_id = m.id " +
+            "WHERE m.id = :memberId",
+            nativeQuery = true)
+    Optional<MemberStatsView> findWithStatsById(@Param("memberId") Long memberId);
 }
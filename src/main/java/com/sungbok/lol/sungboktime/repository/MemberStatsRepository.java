@@ -0,0 +1,57 @@
+package com.sungbok.lol.sungboktime.repository;
+
+import com.sungbok.lol.sungboktime.entity.MemberStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long> {
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO member_stats (member_id, total_games, wins, losses) " +
+            "SELECT m.id, 0, 0, 0 FROM members m WHERE m.id IN (:memberIds)",
+            nativeQuery = true)
+    int insertMissing(@Param("memberIds") Collection<Long> memberIds);
+
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.totalGames = s.totalGames + :games, " +
+            "s.wins = s.wins + :wins, s.losses = s.losses + :losses " +
+            "WHERE s.memberId IN :memberIds")
+    int increment(@Param("memberIds") Collection<Long> memberIds,
+                  @Param("games") int games,
+                  @Param("wins") int wins,
+                  @Param("losses") int losses);
+
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.lastPlayedAt = :playedAt " +
+            "WHERE s.memberId IN :memberIds AND (s.lastPlayedAt IS NULL OR s.lastPlayedAt < :playedAt)")
+    int touchLastPlayedAt(@Param("memberIds") Collection<Long> memberIds,
+                          @Param("playedAt") LocalDateTime playedAt);
+
+    @Query("SELECT MAX(s.updatedAt) FROM MemberStats s")
+    Optional<LocalDateTime> findLastModified();
+
+    @Modifying
+    @Query(value = "DELETE FROM member_stats", nativeQuery = true)
+    int deleteAllInBulk();
+
+    // match_players 전체를 다시 집계해서 member_stats를 재구성
+    @Modifying
+    @Query(value = "INSERT INTO member_stats (member_id, total_games, wins, losses, last_played_at) " +
+            "SELECT m.id, " +
+            "COALESCE(SUM(CASE WHEN mt.win_side != 'PENDING' THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN mt.win_side != 'PENDING' AND mp.win = 1 THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN mt.win_side != 'PENDING' AND COALESCE(mp.win, 0) = 0 THEN 1 ELSE 0 END), 0), " +
+            "MAX(mt.played_at) " +
+            "FROM members m " +
+            "LEFT JOIN match_players mp ON mp.member_id = m.id " +
+            "LEFT JOIN matches mt ON mt.id = mp.match_id " +
+            "GROUP BY m.id",
+            nativeQuery = true)
+    int insertRecomputed();
+}
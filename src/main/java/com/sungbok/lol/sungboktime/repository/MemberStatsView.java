@@ -0,0 +1,20 @@
+package com.sungbok.lol.sungboktime.repository;
+
+public interface MemberStatsView {
+
+    Long getId();
+
+    String getName();
+
+    String getRiotId();
+
+    String getTier();
+
+    Number getTotalGames();
+
+    Number getWins();
+
+    Number getLosses();
+
+    Number getRating();
+}
@@ -0,0 +1,12 @@
+package com.sungbok.lol.sungboktime.repository;
+
+public interface PlayStatView {
+
+    String getName();
+
+    Number getGames();
+
+    Number getWins();
+
+    Number getLosses();
+}
@@ -0,0 +1,36 @@
+package com.sungbok.lol.sungboktime.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 전체 테이블을 한 번 훑는 replay용 JdbcTemplate.
+ * MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍하고,
+ * 다른 드라이버(H2 등)는 음수를 거부하므로 일반 fetchSize를 쓴다.
+ */
+public final class StreamingJdbc {
+
+    private static final int DEFAULT_FETCH_SIZE = 1_000;
+
+    private StreamingJdbc() {
+    }
+
+    public static JdbcTemplate template(DataSource dataSource) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(isMySql(dataSource) ? Integer.MIN_VALUE : DEFAULT_FETCH_SIZE);
+        return template;
+    }
+
+    private static boolean isMySql(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.sungbok.lol.sungboktime.repository;
+
+import java.time.LocalDateTime;
+
+public interface VersionView {
+
+    Number getMaxId();
+
+    LocalDateTime getLastModified();
+}
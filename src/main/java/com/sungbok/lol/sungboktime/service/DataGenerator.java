@@ -0,0 +1,111 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.entity.Match;
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import com.sungbok.lol.sungboktime.entity.MatchPlayer;
+import com.sungbok.lol.sungboktime.entity.MatchPlayer.TeamSide;
+import com.sungbok.lol.sungboktime.entity.Member;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트/벤치마크용 가짜 내전 데이터. seed가 같으면 항상 같은 데이터를 만든다.
+ * 티어는 실제 랭크 분포에 가깝게, 참가 멤버와 챔피언은 일부에 몰리도록 치우친 분포를 쓴다.
+ */
+public final class DataGenerator {
+
+    public static final String[] TIERS =
+            {"UNRANKED", "IRON", "BRONZE", "SILVER", "GOLD", "PLATINUM", "EMERALD", "DIAMOND", "MASTER"};
+    private static final int[] TIER_WEIGHTS = {10, 5, 12, 20, 22, 15, 9, 5, 2};
+
+    public static final String[] POSITIONS = {"TOP", "JUNGLE", "MID", "ADC", "SUPPORT"};
+
+    public static final String[] CHAMPIONS = {
+            "Ahri", "Lee Sin", "Ezreal", "Kai'Sa", "Thresh", "Yasuo", "Jinx", "Lux", "Darius", "Garen",
+            "Vayne", "Zed", "Leona", "Lulu", "Orianna", "Graves", "Viego", "Sett", "Aatrox", "Jhin",
+            "Caitlyn", "Nautilus", "Sylas", "Akali", "Yone", "Morgana", "Kha'Zix", "Malphite", "Ashe", "Yuumi"
+    };
+
+    private static final int TEAM_SIZE = 5;
+
+    private final SplittableRandom random;
+
+    public DataGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public Member member(int n) {
+        return Member.builder()
+                .name("member" + n)
+                .riotId("member" + n + "#KR1")
+                .riotPuuid("puuid-" + n)
+                .tier(TIERS[weighted(TIER_WEIGHTS)])
+                .build();
+    }
+
+    public Match match(LocalDateTime playedAt, double pendingRatio) {
+        WinSide winSide = random.nextDouble() < pendingRatio
+                ? WinSide.PENDING
+                : random.nextBoolean() ? WinSide.BLUE : WinSide.RED;
+        return Match.builder()
+                .playedAt(playedAt)
+                .info("seed")
+                .winSide(winSide)
+                .build();
+    }
+
+    /**
+     * 서로 다른 멤버 10명을 뽑아 팀/포지션/챔피언을 배정한다.
+     */
+    public List<MatchPlayer> players(Match match, List<Member> members) {
+        List<MatchPlayer> players = new ArrayList<>(TEAM_SIZE * 2);
+        int[] picked = new int[TEAM_SIZE * 2];
+        for (int i = 0; i < picked.length; i++) {
+            int idx;
+            do {
+                // 앞쪽 멤버일수록 자주 뽑힌다
+                idx = (int) (members.size() * Math.pow(random.nextDouble(), 2));
+            } while (contains(picked, i, idx));
+            picked[i] = idx;
+
+            TeamSide side = i < TEAM_SIZE ? TeamSide.BLUE : TeamSide.RED;
+            boolean win = match.getWinSide() != WinSide.PENDING && match.getWinSide().name().equals(side.name());
+            players.add(MatchPlayer.builder()
+                    .match(match)
+                    .member(members.get(idx))
+                    .teamSide(side)
+                    .isWin(win)
+                    .position(POSITIONS[i % TEAM_SIZE])
+                    .championName(CHAMPIONS[(int) (CHAMPIONS.length * Math.pow(random.nextDouble(), 1.5))])
+                    .build());
+        }
+        return players;
+    }
+
+    private int weighted(int[] weights) {
+        int total = 0;
+        for (int w : weights) {
+            total += w;
+        }
+        int r = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,86 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.config.SeedProperties;
+import com.sungbok.lol.sungboktime.entity.Match;
+import com.sungbok.lol.sungboktime.entity.MatchPlayer;
+import com.sungbok.lol.sungboktime.entity.Member;
+import com.sungbok.lol.sungboktime.repository.MatchJdbcRepository;
+import com.sungbok.lol.sungboktime.repository.MatchPlayerJdbcRepository;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * seed 프로필로 기동하면 빈 DB에 멤버/매치/참가자를 채운다.
+ * 매치와 참가자는 chunk 단위 트랜잭션 안에서 JDBC batch로 넣고, 끝나면 집계 테이블을 한 번에 재계산한다.
+ *
+ * <pre>
+ * ./gradlew bootRun --args='--spring.profiles.active=seed,loadtest --seed.members=1000 --seed.matches=100000'
+ * </pre>
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class DataSeeder implements ApplicationRunner {
+
+    private final SeedProperties seedProperties;
+    private final MemberRepository memberRepository;
+    private final MatchJdbcRepository matchJdbcRepository;
+    private final MatchPlayerJdbcRepository matchPlayerJdbcRepository;
+    private final MemberStatsService memberStatsService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (memberRepository.count() > 0) {
+            log.warn("Skipping seed: members table is not empty");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        DataGenerator generator = new DataGenerator(seedProperties.getRandomSeed());
+
+        List<Member> members = new ArrayList<>(seedProperties.getMembers());
+        for (int i = 0; i < seedProperties.getMembers(); i++) {
+            members.add(generator.member(i));
+        }
+        List<Member> saved = memberRepository.saveAll(members);
+
+        int matches = seedProperties.getMatches();
+        int chunkSize = Math.max(1, seedProperties.getChunkSize());
+        LocalDateTime start = LocalDateTime.now().minusDays(seedProperties.getDays());
+        long stepSeconds = Math.max(1, seedProperties.getDays() * 86_400L / Math.max(1, matches));
+
+        for (int offset = 0; offset < matches; offset += chunkSize) {
+            int from = offset;
+            int to = Math.min(matches, offset + chunkSize);
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Match> chunk = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    chunk.add(generator.match(start.plusSeconds(i * stepSeconds), seedProperties.getPendingRatio()));
+                }
+                matchJdbcRepository.batchInsert(chunk);
+
+                List<MatchPlayer> players = new ArrayList<>(chunk.size() * 10);
+                for (Match match : chunk) {
+                    players.addAll(generator.players(match, saved));
+                }
+                matchPlayerJdbcRepository.batchInsert(players);
+            });
+        }
+
+        memberStatsService.rebuild();
+        log.info("Seeded {} members, {} matches in {}ms",
+                saved.size(), matches, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
@@ -0,0 +1,103 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.LeaderboardResponse;
+import com.sungbok.lol.sungboktime.dto.LeaderboardResponse.Entry;
+import com.sungbok.lol.sungboktime.dto.LeaderboardResponse.LeaderboardSort;
+import com.sungbok.lol.sungboktime.dto.MemberResponse;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 정렬 기준별로 미리 정렬해 둔 리더보드 스냅샷.
+ * 전적이 바뀐 트랜잭션이 커밋되면 스냅샷을 버리고, 다음 조회 때 한 번만 다시 만든다.
+ * minGames는 판수가 적으면 의미가 없는 승률 순위에만 적용하고, rating/판수 순위는 전원을 보여준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    public static final int DEFAULT_MIN_GAMES = 5;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Map<LeaderboardSort, Comparator<MemberResponse>> ORDERS = Map.of(
+            LeaderboardSort.WIN_RATE, Comparator.comparingDouble(MemberResponse::winRate).reversed()
+                    .thenComparing(Comparator.comparingInt(MemberResponse::totalGames).reversed())
+                    .thenComparing(MemberResponse::id),
+            LeaderboardSort.RATING, Comparator.comparingDouble(MemberResponse::rating).reversed()
+                    .thenComparing(MemberResponse::id),
+            LeaderboardSort.GAMES, Comparator.comparingInt(MemberResponse::totalGames).reversed()
+                    .thenComparing(Comparator.comparingDouble(MemberResponse::winRate).reversed())
+                    .thenComparing(MemberResponse::id)
+    );
+
+    private final MemberRepository memberRepository;
+
+    private volatile Map<LeaderboardSort, MemberResponse[]> snapshot;
+    // 스냅샷을 만드는 도중 무효화되면 그 스냅샷은 캐시하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    public LeaderboardResponse getLeaderboard(LeaderboardSort sort, int minGames, int page, int size) {
+        int appliedMinGames = sort == LeaderboardSort.WIN_RATE ? minGames : 0;
+        MemberResponse[] sorted = snapshot().get(sort);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int from = Math.max(0, page) * pageSize;
+
+        List<Entry> entries = new ArrayList<>(pageSize);
+        int rank = 0;
+        for (MemberResponse m : sorted) {
+            if (m.totalGames() < appliedMinGames) {
+                continue;
+            }
+            rank++;
+            if (rank > from && entries.size() < pageSize) {
+                entries.add(Entry.from(rank, m));
+            }
+        }
+        return new LeaderboardResponse(sort, appliedMinGames, rank, entries);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(MemberStatsChangedEvent event) {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Map<LeaderboardSort, MemberResponse[]> snapshot() {
+        Map<LeaderboardSort, MemberResponse[]> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot;
+            if (current == null) {
+                long startedAt = generation.get();
+                MemberResponse[] members = memberRepository.findAllWithStats().stream()
+                        .map(MemberResponse::from)
+                        .toArray(MemberResponse[]::new);
+
+                Map<LeaderboardSort, MemberResponse[]> built = new EnumMap<>(LeaderboardSort.class);
+                for (LeaderboardSort sort : LeaderboardSort.values()) {
+                    MemberResponse[] copy = members.clone();
+                    Arrays.sort(copy, ORDERS.get(sort));
+                    built.put(sort, copy);
+                }
+                if (generation.get() == startedAt) {
+                    snapshot = built;
+                }
+                current = built;
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.sungbok.lol.sungboktime.service;
+
+/**
+ * import나 수동 재계산으로 매치 기록 전체를 기준으로 다시 집계했음을 알리는 이벤트.
+ */
+public record MatchHistoryRebuiltEvent() {
+}
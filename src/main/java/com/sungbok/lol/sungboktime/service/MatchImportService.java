@@ -0,0 +1,331 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.MatchCreateRequest;
+import com.sungbok.lol.sungboktime.dto.MatchImportResponse;
+import com.sungbok.lol.sungboktime.dto.MatchImportResponse.RowError;
+import com.sungbok.lol.sungboktime.dto.MatchPlayerRequest;
+import com.sungbok.lol.sungboktime.entity.Match;
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import com.sungbok.lol.sungboktime.entity.MatchPlayer;
+import com.sungbok.lol.sungboktime.entity.MatchPlayer.TeamSide;
+import com.sungbok.lol.sungboktime.repository.MatchJdbcRepository;
+import com.sungbok.lol.sungboktime.repository.MatchPlayerJdbcRepository;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 과거 내전 기록 대량 import.
+ * 요청 본문을 한 줄씩 읽으면서 CHUNK_SIZE 단위로 트랜잭션을 끊어 batch insert 하므로
+ * 파일 크기와 무관하게 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String CSV_HEADER = "match_key";
+
+    private final ObjectMapper objectMapper;
+    private final MemberRepository memberRepository;
+    private final MatchJdbcRepository matchJdbcRepository;
+    private final MatchPlayerJdbcRepository matchPlayerJdbcRepository;
+    private final MemberStatsService memberStatsService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 한 줄에 MatchCreateRequest JSON 하나.
+     */
+    public MatchImportResponse importNdjson(InputStream body) throws IOException {
+        ImportContext ctx = new ImportContext(new HashSet<>(memberRepository.findAllIds()));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    ctx.accept(lineNo, objectMapper.readValue(line, MatchCreateRequest.class));
+                } catch (JacksonException e) {
+                    ctx.reject(lineNo, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+        }
+        return ctx.finish();
+    }
+
+    /**
+     * 한 줄에 플레이어 한 명. 같은 match_key가 연속된 줄이 하나의 매치가 된다.
+     * match_key,played_at,info,win_side,member_id,team_side,position,champion_name
+     * (필드 안에 쉼표는 허용하지 않는다)
+     */
+    public MatchImportResponse importCsv(InputStream body) throws IOException {
+        ImportContext ctx = new ImportContext(new HashSet<>(memberRepository.findAllIds()));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNo = 0;
+            String currentKey = null;
+            long currentLine = 0;
+            CsvMatch current = null;
+            String rejectedKey = null;
+            long rejectedLine = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank() || (lineNo == 1 && line.startsWith(CSV_HEADER))) {
+                    continue;
+                }
+
+                String[] cols = line.split(",", -1);
+                if (cols.length != 8) {
+                    ctx.reject(lineNo, "Expected 8 columns but got " + cols.length);
+                    // 플레이어가 빠진 채로 들어가지 않도록 이 행이 속한 매치도 실패시킨다
+                    if (current != null && cols[0].equals(currentKey)) {
+                        current.fail("Line " + lineNo + " was rejected");
+                    } else {
+                        // 새 매치의 행이면 다음 줄부터 시작될 매치를 실패시키도록 기억해 둔다
+                        rejectedKey = cols[0];
+                        rejectedLine = lineNo;
+                    }
+                    continue;
+                }
+
+                if (!cols[0].equals(currentKey)) {
+                    if (current != null) {
+                        current.submit(ctx, currentLine);
+                    }
+                    currentKey = cols[0];
+                    currentLine = lineNo;
+                    current = new CsvMatch();
+                    if (currentKey.equals(rejectedKey)) {
+                        current.fail("Line " + rejectedLine + " was rejected");
+                        currentLine = rejectedLine;
+                    }
+                    rejectedKey = null;
+                }
+
+                try {
+                    current.add(cols);
+                } catch (RuntimeException e) {
+                    current.fail("Line " + lineNo + ": " + e.getMessage());
+                }
+            }
+
+            if (current != null) {
+                current.submit(ctx, currentLine);
+            }
+        }
+        return ctx.finish();
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static final class CsvMatch {
+        private LocalDateTime playedAt;
+        private String info;
+        private WinSide winSide;
+        private final List<MatchPlayerRequest> players = new ArrayList<>(10);
+        private String error;
+
+        void add(String[] cols) {
+            if (players.isEmpty()) {
+                String playedAtCol = emptyToNull(cols[1]);
+                String winSideCol = emptyToNull(cols[3]);
+                playedAt = playedAtCol != null ? LocalDateTime.parse(playedAtCol) : null;
+                info = emptyToNull(cols[2]);
+                winSide = winSideCol != null ? WinSide.valueOf(winSideCol.toUpperCase()) : null;
+            }
+
+            String teamSide = emptyToNull(cols[5]);
+            players.add(new MatchPlayerRequest(
+                    Long.valueOf(cols[4].trim()),
+                    teamSide != null ? TeamSide.valueOf(teamSide.toUpperCase()) : null,
+                    emptyToNull(cols[6]),
+                    emptyToNull(cols[7])
+            ));
+        }
+
+        /**
+         * 처음 실패한 이유만 남긴다
+         */
+        void fail(String message) {
+            if (error == null) {
+                error = message;
+            }
+        }
+
+        void submit(ImportContext ctx, long line) {
+            if (error != null) {
+                ctx.failMatch(line, error);
+            } else {
+                ctx.accept(line, new MatchCreateRequest(playedAt, info, winSide, players));
+            }
+        }
+    }
+
+    private record PendingMatch(long line, MatchCreateRequest request) {}
+
+    private final class ImportContext {
+        private final Set<Long> knownMemberIds;
+        private final List<PendingMatch> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<RowError> errors = new ArrayList<>();
+        private final long startedAt = System.nanoTime();
+        private int read;
+        private int imported;
+        private int failed;
+        private int rejected;
+
+        ImportContext(Set<Long> knownMemberIds) {
+            this.knownMemberIds = knownMemberIds;
+        }
+
+        void accept(long line, MatchCreateRequest request) {
+            read++;
+            String error = validate(request);
+            if (error != null) {
+                fail(line, error);
+                return;
+            }
+
+            chunk.add(new PendingMatch(line, request));
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * 매치로 읽었지만 값이 잘못된 경우
+         */
+        void failMatch(long line, String message) {
+            read++;
+            fail(line, message);
+        }
+
+        /**
+         * 매치로 읽을 수 없는 줄. matchesRead에는 넣지 않는다
+         */
+        void reject(long line, String message) {
+            rejected++;
+            report(line, message);
+        }
+
+        MatchImportResponse finish() {
+            flush();
+            if (imported > 0) {
+                // 증분 대신 import가 끝난 뒤 한 번에 재계산
+                memberStatsService.rebuild();
+            }
+
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            double perSecond = elapsedMillis > 0 ? imported * 1000.0 / elapsedMillis : imported;
+            log.info("Match import finished: read={}, imported={}, failed={}, rejectedRows={}, elapsed={}ms",
+                    read, imported, failed, rejected, elapsedMillis);
+            return new MatchImportResponse(read, imported, failed, rejected, errors, elapsedMillis, perSecond);
+        }
+
+        private String validate(MatchCreateRequest request) {
+            if (request.players() == null || request.players().isEmpty()) {
+                return "players is required";
+            }
+
+            try {
+                MatchService.validateTeamSize(request.players());
+            } catch (IllegalArgumentException e) {
+                return e.getMessage();
+            }
+
+            List<Long> missing = new ArrayList<>();
+            for (MatchPlayerRequest p : request.players()) {
+                if (p.memberId() == null || p.teamSide() == null) {
+                    return "memberId and teamSide are required";
+                }
+                if (!knownMemberIds.contains(p.memberId())) {
+                    missing.add(p.memberId());
+                }
+            }
+            return missing.isEmpty() ? null : "Member not found: " + missing;
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+            report(line, message);
+        }
+
+        private void report(long line, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, message));
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(chunk));
+                imported += chunk.size();
+            } catch (RuntimeException e) {
+                log.warn("Match import chunk failed: {}", e.getMessage());
+                for (PendingMatch pending : chunk) {
+                    fail(pending.line(), "Insert failed: " + e.getMessage());
+                }
+            }
+            chunk.clear();
+        }
+    }
+
+    private void insertChunk(List<PendingMatch> chunk) {
+        List<Match> matches = new ArrayList<>(chunk.size());
+        for (PendingMatch pending : chunk) {
+            MatchCreateRequest request = pending.request();
+            matches.add(Match.builder()
+                    .playedAt(request.playedAt() != null ? request.playedAt() : LocalDateTime.now())
+                    .info(request.info())
+                    .winSide(request.winSide() != null ? request.winSide() : WinSide.PENDING)
+                    .build());
+        }
+        matchJdbcRepository.batchInsert(matches);
+
+        List<MatchPlayer> players = new ArrayList<>(chunk.size() * 10);
+        for (int i = 0; i < chunk.size(); i++) {
+            Match match = matches.get(i);
+            WinSide winSide = match.getWinSide();
+            for (MatchPlayerRequest p : chunk.get(i).request().players()) {
+                players.add(MatchPlayer.builder()
+                        .match(match)
+                        .member(memberRepository.getReferenceById(p.memberId()))
+                        .teamSide(p.teamSide())
+                        .isWin(winSide != WinSide.PENDING && winSide.name().equals(p.teamSide().name()))
+                        .position(p.position())
+                        .championName(p.championName())
+                        .build());
+            }
+        }
+        matchPlayerJdbcRepository.batchInsert(players);
+    }
+}
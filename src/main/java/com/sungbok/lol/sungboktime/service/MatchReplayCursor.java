@@ -0,0 +1,84 @@
+package com.sungbok.lol.sungboktime.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.function.LongToIntFunction;
+
+/**
+ * 완료된 매치를 (match_id, member_id, team_side, win_side) 행으로 스트리밍하면서 매치 단위로 모아 넘긴다.
+ * rating 재계산과 시너지 재구성이 같이 쓴다.
+ */
+final class MatchReplayCursor {
+
+    private static final String REPLAY_SQL =
+            "SELECT mp.match_id, mp.member_id, mp.team_side, m.win_side " +
+            "FROM matches m INNER JOIN match_players mp ON mp.match_id = m.id " +
+            "WHERE m.win_side != 'PENDING' " +
+            "ORDER BY ";
+
+    @FunctionalInterface
+    interface MatchHandler {
+        void apply(long matchId, int[] blue, int blueCount, int[] red, int redCount, boolean blueWon);
+    }
+
+    private final LongToIntFunction indexOf;
+    private final MatchHandler handler;
+    private final int[] blue = new int[RatingCalculator.MAX_TEAM_SIZE];
+    private final int[] red = new int[RatingCalculator.MAX_TEAM_SIZE];
+    private int blueCount;
+    private int redCount;
+    private long currentMatchId = -1;
+    private boolean blueWon;
+    private int matches;
+
+    private MatchReplayCursor(LongToIntFunction indexOf, MatchHandler handler) {
+        this.indexOf = indexOf;
+        this.handler = handler;
+    }
+
+    /**
+     * orderBy 순서로 완료된 매치를 모두 handler에 넘기고 매치 수를 돌려준다.
+     * orderBy는 같은 매치의 행이 이어지도록 m.id로 끝나야 하고, indexOf가 음수를 돌려준 멤버는 건너뛴다.
+     */
+    static int replay(JdbcTemplate streamingJdbcTemplate, String orderBy,
+                      LongToIntFunction indexOf, MatchHandler handler) {
+        MatchReplayCursor cursor = new MatchReplayCursor(indexOf, handler);
+        streamingJdbcTemplate.query(REPLAY_SQL + orderBy, rs -> {
+            cursor.accept(rs.getLong(1), rs.getLong(2), "BLUE".equals(rs.getString(3)), "BLUE".equals(rs.getString(4)));
+        });
+        cursor.flush();
+        return cursor.matches;
+    }
+
+    private void accept(long matchId, long memberId, boolean blueSide, boolean blueWon) {
+        if (matchId != currentMatchId) {
+            flush();
+            currentMatchId = matchId;
+            this.blueWon = blueWon;
+        }
+
+        int idx = indexOf.applyAsInt(memberId);
+        if (idx < 0) {
+            return;
+        }
+        // 입력 단계에서 막으므로 여기 걸리면 데이터가 잘못된 것
+        if ((blueSide ? blueCount : redCount) == RatingCalculator.MAX_TEAM_SIZE) {
+            throw new IllegalStateException("Match " + matchId + " has more than "
+                    + RatingCalculator.MAX_TEAM_SIZE + " players on one side");
+        }
+        if (blueSide) {
+            blue[blueCount++] = idx;
+        } else {
+            red[redCount++] = idx;
+        }
+    }
+
+    private void flush() {
+        if (currentMatchId >= 0) {
+            handler.apply(currentMatchId, blue, blueCount, red, redCount, blueWon);
+            matches++;
+        }
+        blueCount = 0;
+        redCount = 0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+
+import java.util.List;
+
+/**
+ * 매치 결과가 생기거나 바뀌었음을 알리는 이벤트. previous가 PENDING이면 새로 반영, 아니면 이전 결과를 되돌린 뒤 반영한다.
+ */
+public record MatchResultChangedEvent(
+        Long matchId,
+        List<Long> blueIds,
+        List<Long> redIds,
+        WinSide previous,
+        WinSide current
+) {
+}
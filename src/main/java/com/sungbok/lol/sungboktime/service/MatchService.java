@@ -6,15 +6,30 @@ import com.sungbok.lol.sungboktime.entity.Match.WinSide;
 import com.sungbok.lol.sungboktime.entity.MatchPlayer;
 import com.sungbok.lol.sungboktime.entity.MatchPlayer.TeamSide;
 import com.sungbok.lol.sungboktime.entity.Member;
+import com.sungbok.lol.sungboktime.repository.MatchParticipantView;
+import com.sungbok.lol.sungboktime.repository.MatchPlayerJdbcRepository;
 import com.sungbok.lol.sungboktime.repository.MatchPlayerRepository;
 import com.sungbok.lol.sungboktime.repository.MatchRepository;
+import com.sungbok.lol.sungboktime.repository.MemberMatchView;
 import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import com.sungbok.lol.sungboktime.repository.VersionView;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,8 +38,14 @@ public class MatchService {
 
     private final MatchRepository matchRepository;
     private final MatchPlayerRepository matchPlayerRepository;
+    private final MatchPlayerJdbcRepository matchPlayerJdbcRepository;
     private final MemberRepository memberRepository;
+    private final MemberStatsService memberStatsService;
+    private final RatingService ratingService;
+    private final PlayStatsService playStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Timed(value = "sungbok.match.create", histogram = true)
     @Transactional
     public MatchDetailResponse createMatch(MatchCreateRequest request) {
         LocalDateTime playedAt = request.playedAt() != null
@@ -39,44 +60,139 @@ public class MatchService {
                 .winSide(winSide)
                 .build();
 
-        for (MatchPlayerRequest playerRequest : request.players()) {
-            Member member = memberRepository.findById(playerRequest.memberId())
-                    .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+        validateTeamSize(request.players());
+        Map<Long, Member> members = findMembers(request.players());
+
+        // match는 IDENTITY로 먼저 insert하고, players는 JDBC batch 한 번으로 insert
+        Match saved = matchRepository.save(match);
 
+        List<MatchPlayer> players = new ArrayList<>(request.players().size());
+        for (MatchPlayerRequest playerRequest : request.players()) {
             boolean isWin = false;
             if (winSide != WinSide.PENDING) {
                 isWin = (winSide == WinSide.BLUE && playerRequest.teamSide() == TeamSide.BLUE)
                         || (winSide == WinSide.RED && playerRequest.teamSide() == TeamSide.RED);
             }
 
-            MatchPlayer player = MatchPlayer.builder()
-                    .member(member)
+            players.add(MatchPlayer.builder()
+                    .match(saved)
+                    .member(members.get(playerRequest.memberId()))
                     .teamSide(playerRequest.teamSide())
                     .isWin(isWin)
                     .position(playerRequest.position())
                     .championName(playerRequest.championName())
-                    .build();
-
-            match.addPlayer(player);
+                    .build());
         }
+        matchPlayerJdbcRepository.batchInsert(players);
+        // 같은 트랜잭션에서 saved를 다시 보는 코드가 빈 players를 보지 않도록 컬렉션에도 넣는다 (cascade 없음)
+        saved.getPlayers().addAll(players);
 
-        Match saved = matchRepository.save(match);
+        List<Long> winnerIds = new ArrayList<>();
+        List<Long> loserIds = new ArrayList<>();
+        for (MatchPlayer player : players) {
+            (Boolean.TRUE.equals(player.getIsWin()) ? winnerIds : loserIds).add(player.getMember().getId());
+        }
+        memberStatsService.onMatchCreated(winnerIds, loserIds, winSide, playedAt);
+        playStatsService.onMatchCreated(saved.getId(), winSide);
+        ratingService.onMatchCreated(winnerIds, loserIds, winSide);
+        if (winSide != WinSide.PENDING) {
+            publishResultChanged(saved.getId(), players, WinSide.PENDING, winSide);
+        }
 
-        List<MatchPlayerResponse> playerResponses = saved.getPlayers().stream()
+        List<MatchPlayerResponse> playerResponses = players.stream()
                 .map(MatchPlayerResponse::from)
                 .toList();
 
         return MatchDetailResponse.from(saved, playerResponses);
     }
 
-    public List<MatchSummaryResponse> getMatches() {
-        return matchRepository.findAll().stream()
-                .map(MatchSummaryResponse::from)
+    public MatchPageResponse getMatches(MatchSearchRequest condition) {
+        MatchCursor cursor = condition.cursor() != null && !condition.cursor().isBlank()
+                ? MatchCursor.decode(condition.cursor())
+                : null;
+        int size = condition.pageSize();
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        List<MatchSummaryResponse> rows = matchRepository.findSummaries(
+                condition.winSide(),
+                condition.from(),
+                condition.to(),
+                condition.memberId(),
+                cursor != null ? cursor.playedAt() : null,
+                cursor != null ? cursor.id() : null,
+                Limit.of(size + 1)
+        );
+
+        if (rows.size() <= size) {
+            return new MatchPageResponse(rows, null);
+        }
+
+        List<MatchSummaryResponse> page = rows.subList(0, size);
+        return new MatchPageResponse(page, MatchCursor.of(page.get(size - 1)).encode());
+    }
+
+    // 목록 항목은 멤버 필드를 담지 않아서 matches 행만 본다
+    public ResourceVersion getMatchesVersion() {
+        VersionView version = matchRepository.findVersion();
+        return ResourceVersion.of("matches-" + version.getMaxId(), version.getLastModified());
+    }
+
+    // 매치 행과 참가자 멤버 행 중 늦게 바뀐 쪽이 상세의 버전
+    public Optional<ResourceVersion> getMatchVersion(Long matchId) {
+        return matchRepository.findUpdatedAtById(matchId).map(updatedAt -> {
+            LocalDateTime playersModified = matchPlayerRepository.findPlayersLastModified(matchId).orElse(null);
+            LocalDateTime lastModified = playersModified != null && playersModified.isAfter(updatedAt)
+                    ? playersModified
+                    : updatedAt;
+            return ResourceVersion.of("match-" + matchId, lastModified);
+        });
+    }
+
+    public MemberMatchPageResponse getMemberMatches(Long memberId, String cursorValue, Integer sizeValue) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("Member not found");
+        }
+
+        MatchCursor cursor = cursorValue != null && !cursorValue.isBlank() ? MatchCursor.decode(cursorValue) : null;
+        int size = sizeValue == null
+                ? MatchSearchRequest.DEFAULT_SIZE
+                : Math.max(1, Math.min(sizeValue, MatchSearchRequest.MAX_SIZE));
+
+        List<MemberMatchView> rows = matchPlayerRepository.findMemberMatches(
+                memberId,
+                cursor != null ? cursor.playedAt() : null,
+                cursor != null ? cursor.id() : null,
+                Limit.of(size + 1)
+        );
+        boolean hasNext = rows.size() > size;
+        List<MemberMatchView> page = hasNext ? rows.subList(0, size) : rows;
+        if (page.isEmpty()) {
+            return new MemberMatchPageResponse(List.of(), null);
+        }
+
+        // 페이지에 포함된 매치의 참가자를 한 번에 조회해서 같은 팀만 골라낸다
+        Map<Long, TeamSide> sides = new HashMap<>();
+        for (MemberMatchView row : page) {
+            sides.put(row.getMatchId(), row.getTeamSide());
+        }
+        Map<Long, List<MemberMatchResponse.Teammate>> teammates = new HashMap<>();
+        for (MatchParticipantView p : matchPlayerRepository.findParticipants(sides.keySet())) {
+            if (!p.getMemberId().equals(memberId) && p.getTeamSide() == sides.get(p.getMatchId())) {
+                teammates.computeIfAbsent(p.getMatchId(), id -> new ArrayList<>())
+                        .add(MemberMatchResponse.Teammate.from(p));
+            }
+        }
+
+        List<MemberMatchResponse> matches = page.stream()
+                .map(row -> MemberMatchResponse.from(row, teammates.getOrDefault(row.getMatchId(), List.of())))
                 .toList();
+        MemberMatchView last = page.get(page.size() - 1);
+        String nextCursor = hasNext ? new MatchCursor(last.getPlayedAt(), last.getMatchId()).encode() : null;
+        return new MemberMatchPageResponse(matches, nextCursor);
     }
 
     public MatchDetailResponse getMatchDetail(Long matchId) {
-        Match match = matchRepository.findById(matchId)
+        Match match = matchRepository.findWithPlayersById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("Match not found"));
 
         List<MatchPlayerResponse> playerResponses = match.getPlayers().stream()
@@ -87,40 +203,77 @@ public class MatchService {
     }
 
 
+    @Timed(value = "sungbok.match.result", histogram = true)
     @Transactional
     public MatchDetailResponse setMatchResult(Long matchId, MatchResultRequest request) {
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new IllegalArgumentException("Match not found"));
-
         WinSide winSide = request.winSide();
         if (winSide == null || winSide == WinSide.PENDING) {
             throw new IllegalArgumentException("Win side is required");
         }
 
-        match.setWinSide(winSide);
+        Match match = matchRepository.findWithPlayersById(matchId)
+                .orElseThrow(() -> new IllegalArgumentException("Match not found"));
+        WinSide previous = match.getWinSide();
+        TeamSide winningSide = TeamSide.valueOf(winSide.name());
+
+        // dirty checking 대신 bulk UPDATE 두 번으로 처리하고, 응답은 이미 로드한 엔티티로 구성
+        matchRepository.updateWinSide(matchId, winSide, LocalDateTime.now());
+        matchPlayerRepository.updateResult(matchId, winningSide);
+
+        List<MatchPlayerResponse> playerResponses = new ArrayList<>(match.getPlayers().size());
+        List<Long> winnerIds = new ArrayList<>();
+        List<Long> loserIds = new ArrayList<>();
+        for (MatchPlayer player : match.getPlayers()) {
+            boolean win = player.getTeamSide() == winningSide;
+            playerResponses.add(MatchPlayerResponse.from(player, win));
+            (win ? winnerIds : loserIds).add(player.getMember().getId());
+        }
+
+        memberStatsService.onResultChanged(winnerIds, loserIds, previous, winSide);
+        playStatsService.onResultChanged(matchId, previous, winSide);
+        ratingService.onResultChanged(winnerIds, loserIds, previous, winSide);
+        publishResultChanged(matchId, match.getPlayers(), previous, winSide);
+
+        return new MatchDetailResponse(match.getId(), match.getPlayedAt(), match.getInfo(), winSide, playerResponses);
+    }
 
-        // players를 명시적으로 로드하고 업데이트
-        List<MatchPlayer> players = match.getPlayers();
+    private void publishResultChanged(Long matchId, List<MatchPlayer> players, WinSide previous, WinSide current) {
+        if (previous == current) {
+            return;
+        }
+        List<Long> blueIds = new ArrayList<>();
+        List<Long> redIds = new ArrayList<>();
         for (MatchPlayer player : players) {
-            TeamSide teamSide = player.getTeamSide();
-            boolean win = (winSide == WinSide.BLUE && teamSide == TeamSide.BLUE) ||
-                    (winSide == WinSide.RED && teamSide == TeamSide.RED);
-            player.markWin(win);
-            // MatchPlayer를 명시적으로 저장
-            matchPlayerRepository.save(player);
+            (player.getTeamSide() == TeamSide.BLUE ? blueIds : redIds).add(player.getMember().getId());
         }
+        eventPublisher.publishEvent(new MatchResultChangedEvent(matchId, blueIds, redIds, previous, current));
+    }
 
-        // Match와 MatchPlayer 모두 저장
-        matchRepository.save(match);
+    /**
+     * rating 계산이 받는 한 팀 최대 인원을 넘으면 IllegalArgumentException.
+     */
+    static void validateTeamSize(List<MatchPlayerRequest> players) {
+        long blue = players.stream().filter(p -> p.teamSide() == TeamSide.BLUE).count();
+        long red = players.size() - blue;
+        if (Math.max(blue, red) > RatingCalculator.MAX_TEAM_SIZE) {
+            throw new IllegalArgumentException("At most " + RatingCalculator.MAX_TEAM_SIZE + " players per team");
+        }
+    }
 
-        // 저장 후 다시 조회하여 최신 데이터 가져오기
-        Match refreshedMatch = matchRepository.findById(matchId)
-                .orElseThrow(() -> new IllegalArgumentException("Match not found"));
+    private Map<Long, Member> findMembers(List<MatchPlayerRequest> players) {
+        Set<Long> memberIds = players.stream()
+                .map(MatchPlayerRequest::memberId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        List<MatchPlayerResponse> playerResponses = refreshedMatch.getPlayers().stream()
-                .map(MatchPlayerResponse::from)
-                .toList();
+        Map<Long, Member> members = memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
 
-        return MatchDetailResponse.from(refreshedMatch, playerResponses);
+        if (members.size() != memberIds.size()) {
+            List<Long> missing = memberIds.stream()
+                    .filter(id -> !members.containsKey(id))
+                    .toList();
+            throw new IllegalArgumentException("Member not found: " + missing);
+        }
+        return members;
     }
 }
@@ -3,97 +3,157 @@ package com.sungbok.lol.sungboktime.service;
 import com.sungbok.lol.sungboktime.config.RiotApiClient;
 import com.sungbok.lol.sungboktime.dto.AccountResponse;
 import com.sungbok.lol.sungboktime.dto.LeagueResponse;
+import com.sungbok.lol.sungboktime.dto.MemberBulkCreateResult;
 import com.sungbok.lol.sungboktime.dto.MemberCreateRequest;
 import com.sungbok.lol.sungboktime.dto.MemberResponse;
-import com.sungbok.lol.sungboktime.entity.Member;
-import com.sungbok.lol.sungboktime.entity.MatchPlayer;
+import com.sungbok.lol.sungboktime.dto.ResourceVersion;
 import com.sungbok.lol.sungboktime.repository.MemberRepository;
-import com.sungbok.lol.sungboktime.repository.MatchPlayerRepository;
-import lombok.RequiredArgsConstructor;
+import com.sungbok.lol.sungboktime.repository.MemberStatsRepository;
+import com.sungbok.lol.sungboktime.repository.VersionView;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final MatchPlayerRepository matchPlayerRepository;
+    private final MemberStatsRepository memberStatsRepository;
     private final RiotApiClient riotApiClient;
+    private final MemberStatsService memberStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor riotTaskExecutor;
 
+    public MemberService(MemberRepository memberRepository, MemberStatsRepository memberStatsRepository,
+                         RiotApiClient riotApiClient, MemberStatsService memberStatsService,
+                         TransactionTemplate transactionTemplate,
+                         @Qualifier("riotTaskExecutor") AsyncTaskExecutor riotTaskExecutor) {
+        this.memberRepository = memberRepository;
+        this.memberStatsRepository = memberStatsRepository;
+        this.riotApiClient = riotApiClient;
+        this.memberStatsService = memberStatsService;
+        this.transactionTemplate = transactionTemplate;
+        this.riotTaskExecutor = riotTaskExecutor;
+    }
+
+    @Timed(value = "sungbok.member.list", histogram = true)
     public List<MemberResponse> getMembers() {
-        return memberRepository.findAll().stream()
-                .map(member -> {
-                    // 네이티브 쿼리로 직접 조회 (더 확실함)
-                    List<MatchPlayer> matchPlayers = matchPlayerRepository.findCompletedMatchesByMemberId(member.getId());
-                    
-                    log.info("Member: {} (ID: {}), Found {} completed matches", 
-                            member.getName(), member.getId(), matchPlayers.size());
-                    
-                    int totalGames = matchPlayers.size();
-                    
-                    // isWin 값 확인 및 집계
-                    int wins = 0;
-                    int losses = 0;
-                    
-                    for (MatchPlayer mp : matchPlayers) {
-                        Boolean isWin = mp.getIsWin();
-                        log.debug("  - MatchPlayer ID: {}, isWin: {} (type: {})", 
-                                mp.getId(), isWin, (isWin != null ? isWin.getClass().getSimpleName() : "null"));
-                        
-                        if (isWin != null) {
-                            if (isWin) {
-                                wins++;
-                            } else {
-                                losses++;
-                            }
-                        } else {
-                            log.warn("  - MatchPlayer ID: {} has null isWin value!", mp.getId());
-                            losses++; // null은 패배로 처리
-                        }
-                    }
-                    
-                    double winRate = totalGames > 0 ? (double) wins / totalGames * 100 : 0.0;
-                    
-                    log.info("Member: {}, Total: {}, Wins: {}, Losses: {}, WinRate: {:.2f}%", 
-                            member.getName(), totalGames, wins, losses, winRate);
-                    
-                    return MemberResponse.from(member, totalGames, wins, losses, winRate);
-                })
+        return memberRepository.findAllWithStats().stream()
+                .map(MemberResponse::from)
                 .toList();
     }
 
-    @Transactional
+    // 멤버 행과 member_stats 중 늦게 바뀐 쪽이 목록의 버전
+    public ResourceVersion getMembersVersion() {
+        VersionView members = memberRepository.findVersion();
+        LocalDateTime lastModified = members.getLastModified();
+        LocalDateTime statsModified = memberStatsRepository.findLastModified().orElse(null);
+        if (lastModified == null || (statsModified != null && statsModified.isAfter(lastModified))) {
+            lastModified = statsModified;
+        }
+        return ResourceVersion.of("members-" + members.getMaxId(), lastModified);
+    }
+
+    /**
+     * Riot 조회는 트랜잭션 밖에서 하고, 최종 upsert만 트랜잭션으로 묶는다.
+     * 같은 사람(puuid)을 다시 등록하면 기존 멤버를 돌려준다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MemberResponse createMember(MemberCreateRequest request) {
+        return register(request, resolve(request));
+    }
+
+    /**
+     * 여러 Riot ID를 동시에 조회해서 등록한다. 실패한 항목은 error에 사유를 담는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MemberBulkCreateResult> createMembers(List<MemberCreateRequest> requests) {
+        List<CompletableFuture<ResolvedAccount>> lookups = requests.stream()
+                .map(request -> CompletableFuture.supplyAsync(() -> resolve(request), riotTaskExecutor))
+                .toList();
+
+        List<MemberBulkCreateResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            MemberCreateRequest request = requests.get(i);
+            try {
+                MemberResponse member = register(request, lookups.get(i).join());
+                results.add(new MemberBulkCreateResult(request.gameName(), request.tagLine(), member, null));
+            } catch (RuntimeException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                results.add(new MemberBulkCreateResult(request.gameName(), request.tagLine(), null, cause.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 이미 등록된 Riot ID는 Riot API를 부르지 않는다.
+     * 같은 Riot ID를 가진 멤버가 여럿이면(이름 변경 후 재사용) 로컬 값을 믿지 않고 Riot에서 puuid를 확인한다.
+     */
+    private ResolvedAccount resolve(MemberCreateRequest request) {
+        List<Long> known = memberRepository.findIdsByRiotId(request.gameName() + "#" + request.tagLine());
+        if (known.size() == 1) {
+            return ResolvedAccount.known(known.get(0));
+        }
+
         AccountResponse account = riotApiClient.getAccountByRiotId(
                 request.gameName(),
                 request.tagLine()
         );
 
-        String puuid = account.puuid();
-        Optional<LeagueResponse> leagueOpt = riotApiClient.getSoloRankByPuuid(puuid);
+        String tier = riotApiClient.getSoloRankByPuuid(account.puuid())
+                .map(LeagueResponse::tier)
+                .orElse(null);
 
-        String tier = null;
+        return new ResolvedAccount(null, account, tier);
+    }
 
-        if (leagueOpt.isPresent()) {
-            LeagueResponse league = leagueOpt.get();
-            tier = league.tier();
-        }
+    private MemberResponse register(MemberCreateRequest request, ResolvedAccount resolved) {
+        Long memberId = resolved.memberId() != null
+                ? resolved.memberId()
+                : transactionTemplate.execute(status -> upsert(request, resolved));
 
-        Member member = Member.builder()
-                .name(request.name())
-                .riotId(account.gameName() + "#" + account.tagLine())
-                .riotPuuid(puuid)
-                .tier(tier == null ? "UNRANKED" : tier)
-                .build();
+        return memberRepository.findWithStatsById(memberId)
+                .map(MemberResponse::from)
+                .orElseThrow(() -> new IllegalStateException("Member not found: " + memberId));
+    }
 
-        Member saved = memberRepository.save(member);
-        return MemberResponse.from(saved, 0, 0, 0, 0.0);
+    // 동시에 같은 puuid가 들어와도 unique 인덱스 덕분에 한 행으로 합쳐진다
+    private Long upsert(MemberCreateRequest request, ResolvedAccount resolved) {
+        AccountResponse account = resolved.account();
+        memberRepository.upsertByRiotPuuid(
+                request.name(),
+                account.gameName() + "#" + account.tagLine(),
+                account.puuid(),
+                resolved.tier() == null ? "UNRANKED" : resolved.tier(),
+                LocalDateTime.now()
+        );
+
+        Long memberId = memberRepository.findIdByRiotPuuid(account.puuid()).orElseThrow();
+        memberStatsService.onMemberCreated(memberId);
+        return memberId;
+    }
+
+    /**
+     * memberId: 로컬에서 이미 찾은 경우 (account/tier는 비어 있다)
+     */
+    private record ResolvedAccount(Long memberId, AccountResponse account, String tier) {
+
+        static ResolvedAccount known(Long memberId) {
+            return new ResolvedAccount(memberId, null, null);
+        }
     }
 }
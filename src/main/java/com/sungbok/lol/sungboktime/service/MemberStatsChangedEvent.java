@@ -0,0 +1,7 @@
+package com.sungbok.lol.sungboktime.service;
+
+/**
+ * member_stats(전적/rating)나 멤버 목록이 바뀌었음을 알리는 이벤트. 커밋 후 캐시 무효화에 쓴다.
+ */
+public record MemberStatsChangedEvent() {
+}
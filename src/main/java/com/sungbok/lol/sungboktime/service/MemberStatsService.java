@@ -0,0 +1,107 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import com.sungbok.lol.sungboktime.repository.MemberStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * member_stats 프로젝션 관리.
+ * 매치 생성/결과 입력과 같은 트랜잭션 안에서 카운터를 증감시키고,
+ * 필요하면 match_players 전체로부터 다시 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MemberStatsService {
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final MemberRepository memberRepository;
+    private final RatingService ratingService;
+    private final PlayStatsService playStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void onMemberCreated(Long memberId) {
+        memberStatsRepository.insertMissing(List.of(memberId));
+        eventPublisher.publishEvent(new MemberStatsChangedEvent());
+    }
+
+    public void onMatchCreated(Collection<Long> winnerIds, Collection<Long> loserIds,
+                               WinSide winSide, LocalDateTime playedAt) {
+        List<Long> memberIds = new ArrayList<>(winnerIds);
+        memberIds.addAll(loserIds);
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        memberStatsRepository.insertMissing(memberIds);
+        memberStatsRepository.touchLastPlayedAt(memberIds, playedAt);
+
+        if (winSide != WinSide.PENDING) {
+            increment(winnerIds, 1, 1, 0);
+            increment(loserIds, 1, 0, 1);
+        }
+        eventPublisher.publishEvent(new MemberStatsChangedEvent());
+    }
+
+    /**
+     * winnerIds/loserIds는 새 결과 기준. 이전 결과가 반대편이었다면 승/패만 뒤집는다.
+     */
+    public void onResultChanged(Collection<Long> winnerIds, Collection<Long> loserIds,
+                                WinSide previous, WinSide current) {
+        if (previous == current) {
+            return;
+        }
+
+        if (previous == WinSide.PENDING) {
+            increment(winnerIds, 1, 1, 0);
+            increment(loserIds, 1, 0, 1);
+        } else {
+            increment(winnerIds, 0, 1, -1);
+            increment(loserIds, 0, -1, 1);
+        }
+        eventPublisher.publishEvent(new MemberStatsChangedEvent());
+    }
+
+    public int rebuild() {
+        int rows = recompute();
+        eventPublisher.publishEvent(new MatchHistoryRebuiltEvent());
+        return rows;
+    }
+
+    // 기존 DB에 member_stats가 비어있으면 기동 시 한 번 채워준다 (시너지는 SynergyService가 기동 시 따로 만든다)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        if (memberStatsRepository.count() < memberRepository.count() || playStatsService.isMissing()) {
+            recompute();
+        }
+    }
+
+    private int recompute() {
+        memberStatsRepository.deleteAllInBulk();
+        int rows = memberStatsRepository.insertRecomputed();
+        playStatsService.rebuild();
+        ratingService.replay();
+        log.info("Rebuilt member_stats for {} members", rows);
+        eventPublisher.publishEvent(new MemberStatsChangedEvent());
+        return rows;
+    }
+
+    private void increment(Collection<Long> memberIds, int games, int wins, int losses) {
+        if (!memberIds.isEmpty()) {
+            memberStatsRepository.increment(memberIds, games, wins, losses);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.sungbok.lol.sungboktime.service;
+
+/**
+ * 챔피언/포지션 요약 테이블이 바뀌었음을 알리는 이벤트. 커밋 후 전체 요약 캐시 무효화에 쓴다.
+ */
+public record PlayStatsChangedEvent() {
+}
@@ -0,0 +1,152 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.PlayStatResponse;
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import com.sungbok.lol.sungboktime.repository.MatchPlayerRepository;
+import com.sungbok.lol.sungboktime.repository.MemberChampionStatsRepository;
+import com.sungbok.lol.sungboktime.repository.MemberPositionStatsRepository;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * member_champion_stats / member_position_stats 요약 테이블 관리와 조회.
+ * 매치 생성/결과 입력 시 해당 매치의 match_players 행만 읽어서 upsert 한다.
+ * 전체 챔피언/포지션 요약은 GROUP BY 결과를 상위 MAX_GLOBAL_LIMIT개까지 들고 있다가
+ * 요약 테이블을 바꾼 트랜잭션이 커밋되면 버리고 다음 조회 때 다시 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PlayStatsService {
+
+    public static final int MAX_GLOBAL_LIMIT = 200;
+
+    private final MemberChampionStatsRepository championStatsRepository;
+    private final MemberPositionStatsRepository positionStatsRepository;
+    private final MemberRepository memberRepository;
+    private final MatchPlayerRepository matchPlayerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile GlobalStats global;
+    // 요약을 만드는 도중 무효화되면 그 요약은 캐시하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    // match_players insert 이후에 호출해야 한다
+    public void onMatchCreated(Long matchId, WinSide winSide) {
+        if (winSide == WinSide.PENDING) {
+            upsert(matchId, 1, 0, 0, 0, 0);
+        } else {
+            upsert(matchId, 1, 1, 0, 0, 1);
+        }
+    }
+
+    // match_players의 win 컬럼이 새 결과로 갱신된 뒤에 호출해야 한다
+    public void onResultChanged(Long matchId, WinSide previous, WinSide current) {
+        if (previous == current) {
+            return;
+        }
+        if (previous == WinSide.PENDING) {
+            upsert(matchId, 0, 1, 0, 0, 1);
+        } else {
+            upsert(matchId, 0, 1, -1, -1, 1);
+        }
+    }
+
+    public int rebuild() {
+        championStatsRepository.deleteAllInBulk();
+        positionStatsRepository.deleteAllInBulk();
+        int rows = championStatsRepository.insertRecomputed() + positionStatsRepository.insertRecomputed();
+        eventPublisher.publishEvent(new PlayStatsChangedEvent());
+        log.info("Rebuilt champion/position stats ({} rows)", rows);
+        return rows;
+    }
+
+    // 요약 테이블 도입 전의 DB인지 확인
+    @Transactional(readOnly = true)
+    public boolean isMissing() {
+        return championStatsRepository.count() == 0 && matchPlayerRepository.count() > 0;
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlayStatResponse> getMemberChampions(Long memberId) {
+        requireMember(memberId);
+        return championStatsRepository.findByMember(memberId).stream()
+                .map(PlayStatResponse::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlayStatResponse> getMemberPositions(Long memberId) {
+        requireMember(memberId);
+        return positionStatsRepository.findByMember(memberId).stream()
+                .map(PlayStatResponse::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlayStatResponse> getChampions(int limit) {
+        return head(global().champions(), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlayStatResponse> getPositions(int limit) {
+        return head(global().positions(), limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onPlayStatsChanged(PlayStatsChangedEvent event) {
+        generation.incrementAndGet();
+        global = null;
+    }
+
+    private GlobalStats global() {
+        GlobalStats current = global;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = global;
+            if (current == null) {
+                long startedAt = generation.get();
+                current = new GlobalStats(
+                        championStatsRepository.findGlobal(MAX_GLOBAL_LIMIT).stream().map(PlayStatResponse::from).toList(),
+                        positionStatsRepository.findGlobal(MAX_GLOBAL_LIMIT).stream().map(PlayStatResponse::from).toList());
+                if (generation.get() == startedAt) {
+                    global = current;
+                }
+            }
+            return current;
+        }
+    }
+
+    private void upsert(Long matchId, int games, int winnerWins, int winnerLosses, int loserWins, int loserLosses) {
+        championStatsRepository.upsertMatch(matchId, games, winnerWins, winnerLosses, loserWins, loserLosses);
+        positionStatsRepository.upsertMatch(matchId, games, winnerWins, winnerLosses, loserWins, loserLosses);
+        eventPublisher.publishEvent(new PlayStatsChangedEvent());
+    }
+
+    private void requireMember(Long memberId) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("Member not found");
+        }
+    }
+
+    private static List<PlayStatResponse> head(List<PlayStatResponse> stats, int limit) {
+        int clamped = Math.max(1, Math.min(limit, MAX_GLOBAL_LIMIT));
+        return stats.size() <= clamped ? stats : stats.subList(0, clamped);
+    }
+
+    private record GlobalStats(List<PlayStatResponse> champions, List<PlayStatResponse> positions) {}
+}
@@ -0,0 +1,68 @@
+package com.sungbok.lol.sungboktime.service;
+
+/**
+ * 팀 단위 Glicko 계산.
+ * 상대 팀을 (평균 rating, RMS rating deviation)을 가진 한 명의 상대로 보고
+ * 각 플레이어에게 Glicko-1 갱신식을 적용한다. 배열만 다루므로 replay 시 객체를 만들지 않는다.
+ */
+final class RatingCalculator {
+
+    static final double MIN_RATING_DEVIATION = 50.0;
+
+    // 한 팀 최대 인원. 매치 생성/가져오기에서 이보다 큰 팀은 거절한다
+    static final int MAX_TEAM_SIZE = 16;
+
+    private static final double Q = Math.log(10) / 400;
+    private static final double PI_SQUARED = Math.PI * Math.PI;
+
+    private RatingCalculator() {
+    }
+
+    /**
+     * blue[0..blueCount), red[0..redCount)는 rating/rd 배열의 인덱스.
+     */
+    static void apply(double[] rating, double[] rd,
+                      int[] blue, int blueCount, int[] red, int redCount, boolean blueWon) {
+        if (blueCount == 0 || redCount == 0) {
+            return;
+        }
+
+        double blueRating = mean(rating, blue, blueCount);
+        double redRating = mean(rating, red, redCount);
+        double blueRd = rms(rd, blue, blueCount);
+        double redRd = rms(rd, red, redCount);
+
+        update(rating, rd, blue, blueCount, blueRating, redRating, redRd, blueWon ? 1.0 : 0.0);
+        update(rating, rd, red, redCount, redRating, blueRating, blueRd, blueWon ? 0.0 : 1.0);
+    }
+
+    private static void update(double[] rating, double[] rd, int[] team, int count,
+                               double teamRating, double opponentRating, double opponentRd, double score) {
+        double g = 1.0 / Math.sqrt(1.0 + 3.0 * Q * Q * opponentRd * opponentRd / PI_SQUARED);
+        double expected = 1.0 / (1.0 + Math.pow(10, -g * (teamRating - opponentRating) / 400.0));
+        double dSquaredInv = Q * Q * g * g * expected * (1.0 - expected);
+
+        for (int k = 0; k < count; k++) {
+            int i = team[k];
+            double denom = 1.0 / (rd[i] * rd[i]) + dSquaredInv;
+            rating[i] += Q / denom * g * (score - expected);
+            rd[i] = Math.max(MIN_RATING_DEVIATION, Math.sqrt(1.0 / denom));
+        }
+    }
+
+    private static double mean(double[] values, int[] idx, int count) {
+        double sum = 0;
+        for (int k = 0; k < count; k++) {
+            sum += values[idx[k]];
+        }
+        return sum / count;
+    }
+
+    private static double rms(double[] values, int[] idx, int count) {
+        double sum = 0;
+        for (int k = 0; k < count; k++) {
+            sum += values[idx[k]] * values[idx[k]];
+        }
+        return Math.sqrt(sum / count);
+    }
+}
@@ -0,0 +1,193 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import com.sungbok.lol.sungboktime.entity.MemberStats;
+import com.sungbok.lol.sungboktime.repository.MemberStatsRepository;
+import com.sungbok.lol.sungboktime.repository.StreamingJdbc;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 내전 기록 기반 rating.
+ * 결과가 처음 입력될 때는 해당 매치만 증분 반영하고,
+ * 이미 반영된 결과가 바뀌면 커밋 후 요청 스레드 밖에서 played_at 순서로 전체를 다시 계산한다.
+ * <p>
+ * 증분은 결과가 입력된 순서대로 쌓인다. 늦게 입력된 과거 매치는 live rating과 replay 결과가 조금 다를 수 있고,
+ * 다음 replay(결과 정정, /api/members/ratings/replay, 집계 재구성) 때 played_at 순서로 맞춰진다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class RatingService {
+
+    private static final String UPDATE_SQL =
+            "UPDATE member_stats SET rating = ?, rating_deviation = ? WHERE member_id = ?";
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor ratingReplayExecutor;
+
+    // 대기 중인 재계산이 있으면 새 요청은 그 재계산에 합친다
+    private final AtomicBoolean replayQueued = new AtomicBoolean();
+    // 재계산 도중 커밋된 증분 감지용
+    private final AtomicLong incrementsCommitted = new AtomicLong();
+
+    public RatingService(MemberStatsRepository memberStatsRepository, ApplicationEventPublisher eventPublisher,
+                         JdbcTemplate jdbcTemplate, DataSource dataSource,
+                         TransactionTemplate transactionTemplate,
+                         @Qualifier("ratingReplayExecutor") TaskExecutor ratingReplayExecutor) {
+        this.memberStatsRepository = memberStatsRepository;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = StreamingJdbc.template(dataSource);
+        this.transactionTemplate = transactionTemplate;
+        this.ratingReplayExecutor = ratingReplayExecutor;
+    }
+
+    /**
+     * 처음 입력된 결과만 증분 반영한다. 정정은 커밋 후 {@link #onResultCommitted}가 재계산을 예약한다.
+     */
+    public void onResultChanged(Collection<Long> winnerIds, Collection<Long> loserIds,
+                                WinSide previous, WinSide current) {
+        if (previous == WinSide.PENDING && current != WinSide.PENDING) {
+            applyIncrement(winnerIds, loserIds);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onResultCommitted(MatchResultChangedEvent event) {
+        if (event.previous() == WinSide.PENDING) {
+            incrementsCommitted.incrementAndGet();
+        } else {
+            // 이미 반영된 결과는 되돌릴 수 없으므로 전체 재계산
+            requestReplay();
+        }
+    }
+
+    /**
+     * 백그라운드 재계산을 예약한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void requestReplay() {
+        if (replayQueued.compareAndSet(false, true)) {
+            ratingReplayExecutor.execute(this::runQueuedReplay);
+        }
+    }
+
+    private void runQueuedReplay() {
+        replayQueued.set(false);
+        long seen = incrementsCommitted.get();
+        try {
+            transactionTemplate.executeWithoutResult(status -> replay());
+        } catch (RuntimeException e) {
+            log.error("Rating replay failed", e);
+            return;
+        }
+        // 재계산 도중 커밋된 증분은 재계산 결과에 덮였을 수 있으므로 한 번 더
+        if (incrementsCommitted.get() != seen) {
+            requestReplay();
+        }
+    }
+
+    public void onMatchCreated(Collection<Long> winnerIds, Collection<Long> loserIds, WinSide winSide) {
+        if (winSide != WinSide.PENDING) {
+            applyIncrement(winnerIds, loserIds);
+        }
+    }
+
+    /**
+     * 완료된 매치 전체를 played_at 순서로 다시 계산한다.
+     * 멤버 id를 정렬된 long[]로 두고 binarySearch로 dense index를 얻어 rating/rd 배열만 갱신한다.
+     */
+    public int replay() {
+        long startedAt = System.nanoTime();
+        long[] memberIds = jdbcTemplate.queryForList("SELECT member_id FROM member_stats ORDER BY member_id", Long.class)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+
+        double[] rating = new double[memberIds.length];
+        double[] rd = new double[memberIds.length];
+        Arrays.fill(rating, MemberStats.INITIAL_RATING);
+        Arrays.fill(rd, MemberStats.INITIAL_RATING_DEVIATION);
+
+        int matches = MatchReplayCursor.replay(streamingJdbcTemplate, "m.played_at, m.id",
+                memberId -> Arrays.binarySearch(memberIds, memberId),
+                (matchId, blue, blueCount, red, redCount, blueWon) ->
+                        RatingCalculator.apply(rating, rd, blue, blueCount, red, redCount, blueWon));
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setDouble(1, rating[i]);
+                ps.setDouble(2, rd[i]);
+                ps.setLong(3, memberIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return memberIds.length;
+            }
+        });
+
+        log.info("Replayed ratings: {} matches, {} members in {}ms",
+                matches, memberIds.length, (System.nanoTime() - startedAt) / 1_000_000);
+        eventPublisher.publishEvent(new MemberStatsChangedEvent());
+        return matches;
+    }
+
+    private void applyIncrement(Collection<Long> winnerIds, Collection<Long> loserIds) {
+        List<MemberStats> winners = memberStatsRepository.findAllById(winnerIds);
+        List<MemberStats> losers = memberStatsRepository.findAllById(loserIds);
+        int n = winners.size() + losers.size();
+
+        double[] rating = new double[n];
+        double[] rd = new double[n];
+        int[] winnerIdx = new int[winners.size()];
+        int[] loserIdx = new int[losers.size()];
+        for (int i = 0; i < winners.size(); i++) {
+            rating[i] = winners.get(i).getRating();
+            rd[i] = winners.get(i).getRatingDeviation();
+            winnerIdx[i] = i;
+        }
+        for (int i = 0; i < losers.size(); i++) {
+            int k = winners.size() + i;
+            rating[k] = losers.get(i).getRating();
+            rd[k] = losers.get(i).getRatingDeviation();
+            loserIdx[i] = k;
+        }
+
+        RatingCalculator.apply(rating, rd, winnerIdx, winnerIdx.length, loserIdx, loserIdx.length, true);
+
+        for (int i = 0; i < winners.size(); i++) {
+            winners.get(i).setRating(rating[i]);
+            winners.get(i).setRatingDeviation(rd[i]);
+        }
+        for (int i = 0; i < losers.size(); i++) {
+            losers.get(i).setRating(rating[winners.size() + i]);
+            losers.get(i).setRatingDeviation(rd[winners.size() + i]);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.sungbok.lol.sungboktime.service;
+
+import java.util.Arrays;
+
+/**
+ * 멤버 쌍별 "같은 팀 / 상대 팀" 전적 카운터.
+ * 멤버 id를 등장 순서대로 dense index에 매핑하고, 카운터는 capacity x capacity 크기의 int[] 에 행 우선으로 둔다.
+ * 동기화는 호출하는 쪽에서 한다.
+ */
+public class SynergyMatrix {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // id 조회용: 정렬된 id와 그 id의 dense index
+    private long[] sortedIds = new long[INITIAL_CAPACITY];
+    private int[] sortedIndexes = new int[INITIAL_CAPACITY];
+    // dense index -> id
+    private long[] memberIds = new long[INITIAL_CAPACITY];
+    private int size;
+    private int capacity = INITIAL_CAPACITY;
+
+    private int[] togetherGames = new int[INITIAL_CAPACITY * INITIAL_CAPACITY];
+    private int[] togetherWins = new int[INITIAL_CAPACITY * INITIAL_CAPACITY];
+    private int[] againstGames = new int[INITIAL_CAPACITY * INITIAL_CAPACITY];
+    // [a * capacity + b]: a가 b를 상대로 이긴 횟수
+    private int[] againstWins = new int[INITIAL_CAPACITY * INITIAL_CAPACITY];
+
+    public int size() {
+        return size;
+    }
+
+    public long memberId(int index) {
+        return memberIds[index];
+    }
+
+    /**
+     * 없으면 -1
+     */
+    public int indexOf(long memberId) {
+        int pos = Arrays.binarySearch(sortedIds, 0, size, memberId);
+        return pos >= 0 ? sortedIndexes[pos] : -1;
+    }
+
+    public int indexOrAdd(long memberId) {
+        int pos = Arrays.binarySearch(sortedIds, 0, size, memberId);
+        if (pos >= 0) {
+            return sortedIndexes[pos];
+        }
+        if (size == capacity) {
+            grow();
+        }
+
+        int insertAt = -pos - 1;
+        System.arraycopy(sortedIds, insertAt, sortedIds, insertAt + 1, size - insertAt);
+        System.arraycopy(sortedIndexes, insertAt, sortedIndexes, insertAt + 1, size - insertAt);
+        sortedIds[insertAt] = memberId;
+        sortedIndexes[insertAt] = size;
+        memberIds[size] = memberId;
+        return size++;
+    }
+
+    /**
+     * 한 매치의 결과를 더하거나(sign = 1) 뺀다(sign = -1).
+     */
+    public void apply(int[] winners, int winnerCount, int[] losers, int loserCount, int sign) {
+        for (int i = 0; i < winnerCount; i++) {
+            int a = winners[i] * capacity;
+            for (int j = 0; j < winnerCount; j++) {
+                if (i != j) {
+                    togetherGames[a + winners[j]] += sign;
+                    togetherWins[a + winners[j]] += sign;
+                }
+            }
+            for (int j = 0; j < loserCount; j++) {
+                againstGames[a + losers[j]] += sign;
+                againstWins[a + losers[j]] += sign;
+            }
+        }
+        for (int i = 0; i < loserCount; i++) {
+            int a = losers[i] * capacity;
+            for (int j = 0; j < loserCount; j++) {
+                if (i != j) {
+                    togetherGames[a + losers[j]] += sign;
+                }
+            }
+            for (int j = 0; j < winnerCount; j++) {
+                againstGames[a + winners[j]] += sign;
+            }
+        }
+    }
+
+    public int togetherGames(int a, int b) {
+        return togetherGames[a * capacity + b];
+    }
+
+    public int togetherWins(int a, int b) {
+        return togetherWins[a * capacity + b];
+    }
+
+    public int againstGames(int a, int b) {
+        return againstGames[a * capacity + b];
+    }
+
+    public int againstWins(int a, int b) {
+        return againstWins[a * capacity + b];
+    }
+
+    private void grow() {
+        int newCapacity = capacity * 2;
+        sortedIds = Arrays.copyOf(sortedIds, newCapacity);
+        sortedIndexes = Arrays.copyOf(sortedIndexes, newCapacity);
+        memberIds = Arrays.copyOf(memberIds, newCapacity);
+        togetherGames = regrow(togetherGames, newCapacity);
+        togetherWins = regrow(togetherWins, newCapacity);
+        againstGames = regrow(againstGames, newCapacity);
+        againstWins = regrow(againstWins, newCapacity);
+        capacity = newCapacity;
+    }
+
+    private int[] regrow(int[] matrix, int newCapacity) {
+        int[] grown = new int[newCapacity * newCapacity];
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(matrix, row * capacity, grown, row * newCapacity, size);
+        }
+        return grown;
+    }
+}
@@ -0,0 +1,173 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.SynergyResponse;
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import com.sungbok.lol.sungboktime.entity.Member;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import com.sungbok.lol.sungboktime.repository.StreamingJdbc;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 멤버 쌍별 시너지/상대 전적.
+ * 기동 시 완료된 매치 전체를 스트리밍으로 읽어 SynergyMatrix를 만들고,
+ * 이후에는 결과가 커밋될 때마다 해당 매치만 증분 반영한다.
+ */
+@Slf4j
+@Service
+public class SynergyService {
+
+    private final MemberRepository memberRepository;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    // 증분 반영과 재구성은 write lock, 조회는 read lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile SynergyMatrix matrix = new SynergyMatrix();
+    // 매치별로 matrix에 들어가 있는 결과 (BLUE 승리 여부). 증분이 재구성과 겹쳐도 두 번 세지 않게 한다
+    private Map<Long, Boolean> results = new HashMap<>();
+
+    public SynergyService(MemberRepository memberRepository, DataSource dataSource) {
+        this.memberRepository = memberRepository;
+        this.streamingJdbcTemplate = StreamingJdbc.template(dataSource);
+    }
+
+    public SynergyResponse getSynergy(Long memberId, int minGames) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("Member not found");
+        }
+
+        List<long[]> rows = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            SynergyMatrix m = matrix;
+            int a = m.indexOf(memberId);
+            if (a >= 0) {
+                for (int b = 0; b < m.size(); b++) {
+                    if (b == a || m.togetherGames(a, b) + m.againstGames(a, b) < Math.max(1, minGames)) {
+                        continue;
+                    }
+                    rows.add(new long[]{m.memberId(b), m.togetherGames(a, b), m.togetherWins(a, b),
+                            m.againstGames(a, b), m.againstWins(a, b)});
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, String> names = memberRepository.findAllById(rows.stream().map(r -> r[0]).toList()).stream()
+                .collect(Collectors.toMap(Member::getId, Member::getName));
+        List<SynergyResponse.Entry> entries = rows.stream()
+                .map(r -> SynergyResponse.Entry.of(r[0], names.get(r[0]),
+                        (int) r[1], (int) r[2], (int) r[3], (int) r[4]))
+                .sorted(Comparator.comparingInt((SynergyResponse.Entry e) -> e.togetherGames() + e.againstGames())
+                        .reversed()
+                        .thenComparing(SynergyResponse.Entry::memberId))
+                .toList();
+        return new SynergyResponse(memberId, entries);
+    }
+
+    /**
+     * matrix에 들어가 있는 결과를 기준으로 되돌리고 새 결과를 더한다.
+     * 커밋 직후 재구성이 먼저 돌아 이미 새 결과를 읽었다면 아무것도 하지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultChanged(MatchResultChangedEvent event) {
+        if (event.current() == WinSide.PENDING) {
+            return;
+        }
+        boolean blueWon = event.current() == WinSide.BLUE;
+
+        lock.writeLock().lock();
+        try {
+            Boolean applied = results.get(event.matchId());
+            if (applied != null && applied == blueWon) {
+                return;
+            }
+            SynergyMatrix m = matrix;
+            int[] blue = indexes(m, event.blueIds());
+            int[] red = indexes(m, event.redIds());
+            if (applied != null) {
+                applyResult(m, blue, red, applied, -1);
+            }
+            applyResult(m, blue, red, blueWon, 1);
+            results.put(event.matchId(), blueWon);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /**
+     * import나 수동 재계산 뒤에만 온다. 기동 시에는 {@link #onReady}가 만든다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHistoryRebuilt(MatchHistoryRebuiltEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 재구성하는 동안 증분 반영을 막고, 재구성이 읽은 매치별 결과를 함께 바꿔서
+     * 스트리밍 도중이나 직전에 커밋된 결과가 빠지거나 두 번 반영되지 않게 한다.
+     */
+    public synchronized int rebuild() {
+        long startedAt = System.nanoTime();
+        SynergyMatrix rebuilt = new SynergyMatrix();
+        Map<Long, Boolean> rebuiltResults = new HashMap<>();
+
+        int matches;
+        lock.writeLock().lock();
+        try {
+            matches = MatchReplayCursor.replay(streamingJdbcTemplate, "m.id", rebuilt::indexOrAdd,
+                    (matchId, blue, blueCount, red, redCount, blueWon) -> {
+                        if (blueWon) {
+                            rebuilt.apply(blue, blueCount, red, redCount, 1);
+                        } else {
+                            rebuilt.apply(red, redCount, blue, blueCount, 1);
+                        }
+                        rebuiltResults.put(matchId, blueWon);
+                    });
+            matrix = rebuilt;
+            results = rebuiltResults;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Rebuilt synergy matrix: {} matches, {} members in {}ms",
+                matches, rebuilt.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return matches;
+    }
+
+    private static int[] indexes(SynergyMatrix m, List<Long> memberIds) {
+        int[] result = new int[memberIds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = m.indexOrAdd(memberIds.get(i));
+        }
+        return result;
+    }
+
+    private static void applyResult(SynergyMatrix m, int[] blue, int[] red, boolean blueWon, int sign) {
+        if (blueWon) {
+            m.apply(blue, blue.length, red, red.length, sign);
+        } else {
+            m.apply(red, red.length, blue, blue.length, sign);
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package com.sungbok.lol.sungboktime.service;
 
 import com.sungbok.lol.sungboktime.dto.TeamBalanceRequest;
+import com.sungbok.lol.sungboktime.dto.TeamBalanceRequest.ScoreMode;
 import com.sungbok.lol.sungboktime.dto.TeamBalanceResponse;
+import com.sungbok.lol.sungboktime.dto.TeamBalanceResponse.Alternative;
 import com.sungbok.lol.sungboktime.dto.TeamBalanceResponse.TeamMemberDto;
+import com.sungbok.lol.sungboktime.dto.TeamPartitionRequest;
+import com.sungbok.lol.sungboktime.dto.TeamPartitionResponse;
 import com.sungbok.lol.sungboktime.entity.Member;
+import com.sungbok.lol.sungboktime.entity.MemberStats;
 import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import com.sungbok.lol.sungboktime.repository.MemberStatsRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,42 +34,167 @@ import java.util.Optional;
 public class TeamBalanceService {
 
     private final MemberRepository memberRepository;
+    private final MemberStatsRepository memberStatsRepository;
 
+    static final int MAX_ALTERNATIVES = 10;
+    static final int DEFAULT_TIME_BUDGET_MILLIS = 20;
+    static final int MAX_TIME_BUDGET_MILLIS = 500;
+    // local search 한 바퀴가 O(n^2)이라 인원 상한을 둔다
+    static final int MAX_PARTITION_MEMBERS = 200;
+
+    @Timed(value = "sungbok.team.balance", histogram = true)
     public TeamBalanceResponse balance(TeamBalanceRequest request) {
-        List<Member> members = memberRepository.findAllById(request.memberIds());
+        List<Member> members = findMembers(new LinkedHashSet<>(request.memberIds()));
+        ToIntFunction<Member> scorer = scorer(members, request.scoreMode());
+
+        if (members.size() < 2 || members.size() % 2 != 0 || members.size() > TeamSplitSolver.MAX_PLAYERS) {
+            throw new IllegalArgumentException(
+                    "An even number of members (2 to " + TeamSplitSolver.MAX_PLAYERS + ") is required for team balancing.");
+        }
+
+        // 결과가 요청 순서에 흔들리지 않도록 점수 내림차순, id 오름차순으로 고정
+        List<MemberWithScore> sorted = new ArrayList<>(members.stream()
+                .map(m -> new MemberWithScore(m, scorer.applyAsInt(m)))
+                .toList());
+        sorted.sort(Comparator.comparingInt((MemberWithScore mws) -> mws.score).reversed()
+                .thenComparing(mws -> mws.member.getId()));
+
+        int n = sorted.size();
+        int[] scores = new int[n];
+        Map<Long, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            scores[i] = sorted.get(i).score;
+            indexById.put(sorted.get(i).member.getId(), i);
+        }
+
+        int alternatives = Math.max(0, Math.min(
+                Optional.ofNullable(request.alternatives()).orElse(0), MAX_ALTERNATIVES));
+        int[] masks = TeamSplitSolver.solve(
+                scores,
+                toPairMasks(request.together(), indexById),
+                toPairMasks(request.apart(), indexById),
+                alternatives + 1
+        );
+        if (masks.length == 0) {
+            throw new IllegalArgumentException("No team split satisfies the given constraints.");
+        }
+
+        int total = Arrays.stream(scores).sum();
+        int best = masks[0];
+        List<TeamMemberDto> blueTeam = new ArrayList<>();
+        List<TeamMemberDto> redTeam = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            MemberWithScore mws = sorted.get(i);
+            ((best & (1 << i)) != 0 ? blueTeam : redTeam).add(TeamMemberDto.from(mws.member, mws.score));
+        }
+        int blueSum = TeamSplitSolver.sum(scores, best);
+
+        List<Alternative> others = new ArrayList<>(masks.length - 1);
+        for (int k = 1; k < masks.length; k++) {
+            List<Long> blueIds = new ArrayList<>();
+            List<Long> redIds = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                ((masks[k] & (1 << i)) != 0 ? blueIds : redIds).add(sorted.get(i).member.getId());
+            }
+            int sum = TeamSplitSolver.sum(scores, masks[k]);
+            others.add(new Alternative(blueIds, sum, redIds, total - sum, Math.abs(2 * sum - total)));
+        }
+
+        return new TeamBalanceResponse(blueTeam, blueSum, redTeam, total - blueSum,
+                Math.abs(2 * blueSum - total), others);
+    }
+
+    public TeamPartitionResponse partition(TeamPartitionRequest request) {
+        Set<Long> memberIds = new LinkedHashSet<>(request.memberIds());
+        if (memberIds.size() > MAX_PARTITION_MEMBERS) {
+            throw new IllegalArgumentException("At most " + MAX_PARTITION_MEMBERS + " members can be partitioned.");
+        }
+        List<Member> members = findMembers(memberIds);
+        int teamCount = request.teamCount();
+        if (members.size() < teamCount) {
+            throw new IllegalArgumentException("Not enough members for " + teamCount + " teams.");
+        }
+
+        List<Member> sorted = new ArrayList<>(members);
+        sorted.sort(Comparator.comparing(Member::getId));
+        ToIntFunction<Member> scorer = scorer(sorted, request.scoreMode());
+        int n = sorted.size();
+        int[] scores = new int[n];
+        for (int i = 0; i < n; i++) {
+            scores[i] = scorer.applyAsInt(sorted.get(i));
+        }
+
+        int budgetMillis = Math.max(0, Math.min(
+                Optional.ofNullable(request.timeBudgetMillis()).orElse(DEFAULT_TIME_BUDGET_MILLIS),
+                MAX_TIME_BUDGET_MILLIS));
+        int[] assignment = TeamPartitioner.partition(scores, teamCount, budgetMillis * 1_000_000L);
+        int[] sums = TeamPartitioner.teamSums(scores, assignment, teamCount);
+
+        List<List<TeamMemberDto>> teamMembers = new ArrayList<>(teamCount);
+        for (int t = 0; t < teamCount; t++) {
+            teamMembers.add(new ArrayList<>());
+        }
+        for (int i = 0; i < n; i++) {
+            teamMembers.get(assignment[i]).add(TeamMemberDto.from(sorted.get(i), scores[i]));
+        }
 
-        if (members.size() != 10) {
-            throw new IllegalArgumentException("Exactly 10 members are required for team balancing.");
+        // 합이 비슷한 팀끼리 같은 로비가 되도록 묶고 로비 순서로 정렬
+        int[] lobbies = TeamPartitioner.lobbies(sums);
+        Integer[] order = new Integer[teamCount];
+        for (int t = 0; t < teamCount; t++) {
+            order[t] = t;
         }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(t -> lobbies[t] < 0 ? Integer.MAX_VALUE : lobbies[t])
+                .thenComparingInt(t -> sums[t]));
 
-        List<MemberWithScore> scored = members.stream()
-                .map(m -> new MemberWithScore(m, calculateScore(m)))
-                .toList();
+        List<TeamPartitionResponse.Team> teams = new ArrayList<>(teamCount);
+        for (int t : order) {
+            teams.add(new TeamPartitionResponse.Team(lobbies[t], teamMembers.get(t), sums[t]));
+        }
+
+        return new TeamPartitionResponse(teams, TeamPartitioner.spread(sums), TeamPartitioner.isExact(n, teamCount));
+    }
 
-        List<MemberWithScore> sorted = new ArrayList<>(scored);
-        sorted.sort(Comparator.comparingInt((MemberWithScore mws) -> mws.score).reversed());
+    /**
+     * 없는 id가 섞여 있으면 인원이 줄어든 채로 나누지 않고 거절한다.
+     */
+    private List<Member> findMembers(Set<Long> memberIds) {
+        List<Member> members = memberRepository.findAllById(memberIds);
+        if (members.size() != memberIds.size()) {
+            Set<Long> found = members.stream().map(Member::getId).collect(Collectors.toSet());
+            List<Long> missing = memberIds.stream().filter(id -> !found.contains(id)).toList();
+            throw new IllegalArgumentException("Member not found: " + missing);
+        }
+        return members;
+    }
 
-        List<MemberWithScore> blue = new ArrayList<>();
-        List<MemberWithScore> red = new ArrayList<>();
-        int blueSum = 0;
-        int redSum = 0;
+    private int[] toPairMasks(List<List<Long>> pairs, Map<Long, Integer> indexById) {
+        if (pairs == null) {
+            return new int[0];
+        }
 
-        for (MemberWithScore mws : sorted) {
-            if (blue.size() < 5 && (blueSum <= redSum || red.size() >= 5)) {
-                blue.add(mws);
-                blueSum += mws.score;
-            } else {
-                red.add(mws);
-                redSum += mws.score;
+        int[] masks = new int[pairs.size()];
+        for (int i = 0; i < pairs.size(); i++) {
+            List<Long> pair = pairs.get(i);
+            if (pair == null || pair.size() != 2
+                    || !indexById.containsKey(pair.get(0)) || !indexById.containsKey(pair.get(1))
+                    || pair.get(0).equals(pair.get(1))) {
+                throw new IllegalArgumentException("Constraint pairs must contain two distinct selected members.");
             }
+            masks[i] = (1 << indexById.get(pair.get(0))) | (1 << indexById.get(pair.get(1)));
         }
+        return masks;
+    }
 
-        List<TeamMemberDto> blueTeam =
-                blue.stream().map(mws -> TeamMemberDto.from(mws.member, mws.score)).toList();
-        List<TeamMemberDto> redTeam =
-                red.stream().map(mws -> TeamMemberDto.from(mws.member, mws.score)).toList();
+    private ToIntFunction<Member> scorer(List<Member> members, ScoreMode mode) {
+        if (mode != ScoreMode.RATING) {
+            return this::calculateScore;
+        }
 
-        return new TeamBalanceResponse(blueTeam, blueSum, redTeam, redSum);
+        Map<Long, Double> ratings = memberStatsRepository.findAllById(members.stream().map(Member::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(MemberStats::getMemberId, MemberStats::getRating));
+        return m -> (int) Math.round(ratings.getOrDefault(m.getId(), MemberStats.INITIAL_RATING));
     }
 
     private int calculateScore(Member member) {
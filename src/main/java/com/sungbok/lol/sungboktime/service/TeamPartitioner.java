@@ -0,0 +1,206 @@
+package com.sungbok.lol.sungboktime.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * N명을 K팀으로 나누는 분할기.
+ * 2팀이고 인원이 적으면 {@link TeamSplitSolver}로 완전 탐색하고,
+ * 그 외에는 greedy 초기해 + 스왑 local search를 시간 예산 안에서 재시작하며 반복한다.
+ * local search도 예산을 넘기면 그 자리에서 멈추므로 예산이 0이어도 greedy 해는 돌려준다.
+ * 팀 인원은 n / k 이고 나머지는 앞 팀부터 한 명씩 더 받는다.
+ */
+final class TeamPartitioner {
+
+    private TeamPartitioner() {
+    }
+
+    /**
+     * @return 플레이어별 팀 번호 (0 ~ teamCount - 1)
+     */
+    static int[] partition(int[] scores, int teamCount, long timeBudgetNanos) {
+        int n = scores.length;
+        if (teamCount < 2 || n < teamCount) {
+            throw new IllegalArgumentException("At least one player per team and two teams are required.");
+        }
+
+        if (isExact(n, teamCount)) {
+            int mask = TeamSplitSolver.solve(scores, new int[0], new int[0], 1)[0];
+            int[] assignment = new int[n];
+            for (int i = 0; i < n; i++) {
+                assignment[i] = (mask & (1 << i)) != 0 ? 0 : 1;
+            }
+            return assignment;
+        }
+
+        int[] capacity = capacities(n, teamCount);
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(scores[b], scores[a]));
+
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        int[] best = greedy(scores, order, capacity, teamCount);
+        long bestCost = improve(scores, best, teamCount, deadline);
+
+        // 남은 예산 동안 섞은 순서로 다시 시작해서 더 좋은 해가 나오면 교체
+        SplittableRandom random = new SplittableRandom(n * 31L + teamCount);
+        int[] candidate = new int[n];
+        while (bestCost > 0 && System.nanoTime() < deadline) {
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Integer tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+            candidate = greedyInto(candidate, scores, order, capacity, teamCount);
+            long cost = improve(scores, candidate, teamCount, deadline);
+            if (cost < bestCost) {
+                bestCost = cost;
+                System.arraycopy(candidate, 0, best, 0, n);
+            }
+        }
+        return best;
+    }
+
+    static boolean isExact(int players, int teamCount) {
+        return teamCount == 2 && players % 2 == 0 && players <= TeamSplitSolver.MAX_PLAYERS;
+    }
+
+    static int[] teamSums(int[] scores, int[] assignment, int teamCount) {
+        int[] sums = new int[teamCount];
+        for (int i = 0; i < scores.length; i++) {
+            sums[assignment[i]] += scores[i];
+        }
+        return sums;
+    }
+
+    static int spread(int[] sums) {
+        int max = Integer.MIN_VALUE;
+        int min = Integer.MAX_VALUE;
+        for (int s : sums) {
+            max = Math.max(max, s);
+            min = Math.min(min, s);
+        }
+        return max - min;
+    }
+
+    /**
+     * 팀 합 오름차순으로 이웃한 두 팀씩 같은 로비로 묶는다.
+     * 팀 수가 홀수면 남은 쌍들의 합 차이가 가장 작아지는 팀 하나를 빼고 그 팀은 -1(대기)로 둔다.
+     *
+     * @return 팀별 로비 번호
+     */
+    static int[] lobbies(int[] sums) {
+        int teamCount = sums.length;
+        Integer[] order = new Integer[teamCount];
+        for (int t = 0; t < teamCount; t++) {
+            order[t] = t;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(sums[a], sums[b]));
+
+        // 정렬된 순서에서 짝수 위치를 빼야 앞뒤가 이웃끼리 짝지어진다
+        int bye = -1;
+        if (teamCount % 2 != 0) {
+            long bestGap = Long.MAX_VALUE;
+            for (int e = 0; e < teamCount; e += 2) {
+                long gap = 0;
+                for (int k = 0; k + 1 < teamCount; k += 2) {
+                    int a = k < e ? k : k + 1;
+                    gap += sums[order[a + 1]] - sums[order[a]];
+                }
+                if (gap < bestGap) {
+                    bestGap = gap;
+                    bye = e;
+                }
+            }
+        }
+
+        int[] lobby = new int[teamCount];
+        int paired = 0;
+        for (int k = 0; k < teamCount; k++) {
+            if (k == bye) {
+                lobby[order[k]] = -1;
+            } else {
+                lobby[order[k]] = paired++ / 2;
+            }
+        }
+        return lobby;
+    }
+
+    private static int[] capacities(int n, int teamCount) {
+        int[] capacity = new int[teamCount];
+        for (int t = 0; t < teamCount; t++) {
+            capacity[t] = n / teamCount + (t < n % teamCount ? 1 : 0);
+        }
+        return capacity;
+    }
+
+    private static int[] greedy(int[] scores, Integer[] order, int[] capacity, int teamCount) {
+        return greedyInto(new int[scores.length], scores, order, capacity, teamCount);
+    }
+
+    // 점수 순서대로 자리가 남은 팀 중 합이 가장 작은 팀에 배정
+    private static int[] greedyInto(int[] assignment, int[] scores, Integer[] order, int[] capacity, int teamCount) {
+        long[] sums = new long[teamCount];
+        int[] sizes = new int[teamCount];
+        for (int idx : order) {
+            int target = -1;
+            for (int t = 0; t < teamCount; t++) {
+                if (sizes[t] < capacity[t] && (target < 0 || sums[t] < sums[target])) {
+                    target = t;
+                }
+            }
+            assignment[idx] = target;
+            sums[target] += scores[idx];
+            sizes[target]++;
+        }
+        return assignment;
+    }
+
+    /**
+     * 팀 합의 제곱합을 줄이는 스왑이 없을 때까지 반복 (평균이 고정이므로 분산 최소화와 같다).
+     * 한 줄(i)을 돌 때마다 deadline을 확인해서 예산을 넘기면 지금까지의 해로 끝낸다.
+     *
+     * @return 개선이 끝난 뒤 최대 팀 합과 최소 팀 합의 차이
+     */
+    private static long improve(int[] scores, int[] assignment, int teamCount, long deadline) {
+        int n = scores.length;
+        long[] sums = new long[teamCount];
+        for (int i = 0; i < n; i++) {
+            sums[assignment[i]] += scores[i];
+        }
+
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 0; i < n && System.nanoTime() - deadline < 0; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    int a = assignment[i];
+                    int b = assignment[j];
+                    if (a == b) {
+                        continue;
+                    }
+                    // i(a팀)와 j(b팀)를 바꿨을 때 제곱합 변화량 = 2d(Sa - Sb) + 2d^2, d = s_j - s_i
+                    long d = scores[j] - scores[i];
+                    if (d != 0 && d * (sums[a] - sums[b] + d) < 0) {
+                        assignment[i] = b;
+                        assignment[j] = a;
+                        sums[a] += d;
+                        sums[b] -= d;
+                        improved = true;
+                    }
+                }
+            }
+        }
+
+        long max = Long.MIN_VALUE;
+        long min = Long.MAX_VALUE;
+        for (long s : sums) {
+            max = Math.max(max, s);
+            min = Math.min(min, s);
+        }
+        return max - min;
+    }
+}
@@ -0,0 +1,92 @@
+package com.sungbok.lol.sungboktime.service;
+
+/**
+ * 2팀 분할 완전 탐색.
+ * 플레이어 i의 팀을 비트 i로 표현하고, 0번 플레이어를 항상 블루에 고정해 대칭 중복을 없앤다.
+ * 10명이면 C(9,4) = 126개 조합만 보므로 탐색 루프는 객체를 만들지 않는다.
+ */
+final class TeamSplitSolver {
+
+    /** 완전 탐색 가능한 최대 인원 (C(19,9) = 92,378 조합) */
+    static final int MAX_PLAYERS = 20;
+
+    private TeamSplitSolver() {
+    }
+
+    /**
+     * @param scores   플레이어별 점수
+     * @param together 같은 팀이어야 하는 쌍 (비트마스크, 두 비트가 켜져 있음)
+     * @param apart    다른 팀이어야 하는 쌍
+     * @param topK     반환할 후보 수
+     * @return 차이가 작은 순으로 정렬된 블루팀 마스크. 가능한 분할이 topK보다 적으면 그만큼만
+     */
+    static int[] solve(int[] scores, int[] together, int[] apart, int topK) {
+        int n = scores.length;
+        if (n < 2 || n % 2 != 0 || n > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Exact split supports an even number of players up to " + MAX_PLAYERS);
+        }
+
+        int total = 0;
+        for (int s : scores) {
+            total += s;
+        }
+
+        int[] bestMasks = new int[topK];
+        int[] bestDiffs = new int[topK];
+        int found = 0;
+
+        int half = n / 2;
+        int limit = 1 << n;
+        // 0번 비트를 켠 상태에서 popcount == half 인 마스크를 Gosper's hack으로 순회
+        int mask = (1 << half) - 1;
+        while (mask < limit) {
+            if ((mask & 1) != 0 && satisfies(mask, together, apart)) {
+                int diff = Math.abs(2 * sum(scores, mask) - total);
+                if (found < topK || diff < bestDiffs[found - 1]) {
+                    int i = found < topK ? found++ : found - 1;
+                    while (i > 0 && bestDiffs[i - 1] > diff) {
+                        bestDiffs[i] = bestDiffs[i - 1];
+                        bestMasks[i] = bestMasks[i - 1];
+                        i--;
+                    }
+                    bestDiffs[i] = diff;
+                    bestMasks[i] = mask;
+                }
+            }
+
+            int c = mask & -mask;
+            int r = mask + c;
+            mask = (((r ^ mask) >>> 2) / c) | r;
+        }
+
+        if (found == topK) {
+            return bestMasks;
+        }
+        int[] result = new int[found];
+        System.arraycopy(bestMasks, 0, result, 0, found);
+        return result;
+    }
+
+    static int sum(int[] scores, int mask) {
+        int sum = 0;
+        for (int m = mask; m != 0; m &= m - 1) {
+            sum += scores[Integer.numberOfTrailingZeros(m)];
+        }
+        return sum;
+    }
+
+    private static boolean satisfies(int mask, int[] together, int[] apart) {
+        for (int pair : together) {
+            int bits = Integer.bitCount(mask & pair);
+            if (bits == 1) {
+                return false;
+            }
+        }
+        for (int pair : apart) {
+            if (Integer.bitCount(mask & pair) != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,193 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.config.RiotApiClient;
+import com.sungbok.lol.sungboktime.dto.LeagueResponse;
+import com.sungbok.lol.sungboktime.dto.TierRefreshStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전체 멤버 솔로랭크 티어 갱신.
+ * id 순서로 페이지 단위 처리하며, 페이지가 끝날 때마다 커서를 옮기므로 중단된 작업은 resume으로 이어서 돈다.
+ * 페이지를 넘기는 코디네이터는 tierRefreshExecutor에서 돌고, 멤버별 Riot 조회는 riotTaskExecutor에서 동시에 실행되며
+ * 속도는 rate limiter가 정한다. 조회에 실패한 멤버 id는 남겨두었다가 resume 때 먼저 다시 조회한다.
+ * 티어가 바뀐 멤버만 JDBC batch로 업데이트한다.
+ */
+@Slf4j
+@Service
+public class TierRefreshService {
+
+    static final int PAGE_SIZE = 200;
+
+    private static final String SELECT_PAGE_SQL =
+            "SELECT id, riot_puuid, tier FROM members WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_BY_IDS_SQL =
+            "SELECT id, riot_puuid, tier FROM members WHERE id IN (%s) ORDER BY id";
+    private static final String UPDATE_TIER_SQL =
+            "UPDATE members SET tier = ?, updated_at = ? WHERE id = ?";
+
+    private final RiotApiClient riotApiClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final AsyncTaskExecutor executor;
+    private final TaskExecutor coordinator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 코디네이터 스레드만 바꾸고 status()가 읽는다
+    private final Set<Long> failedIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile long cursor;
+    private volatile int total;
+    private volatile int processed;
+    private volatile int changed;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public TierRefreshService(RiotApiClient riotApiClient, JdbcTemplate jdbcTemplate,
+                              @Qualifier("riotTaskExecutor") AsyncTaskExecutor executor,
+                              @Qualifier("tierRefreshExecutor") TaskExecutor coordinator,
+                              ApplicationEventPublisher eventPublisher) {
+        this.riotApiClient = riotApiClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+        this.coordinator = coordinator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(cron = "${tier-refresh.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void scheduledRefresh() {
+        start(false);
+    }
+
+    /**
+     * @param resume true면 이전 실행에서 실패한 멤버를 다시 조회한 뒤 마지막으로 끝난 페이지 다음부터 이어서 진행.
+     *               이미 끝난 실행이라도 실패한 멤버가 남아 있으면 그 멤버들만 다시 조회한다
+     */
+    public TierRefreshStatus start(boolean resume) {
+        if (!running.compareAndSet(false, true)) {
+            return status();
+        }
+
+        if (!resume || (finishedAt != null && failedIds.isEmpty())) {
+            cursor = 0;
+            processed = 0;
+            changed = 0;
+            failedIds.clear();
+        }
+        total = Objects.requireNonNullElse(
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM members", Integer.class), 0);
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+
+        coordinator.execute(this::run);
+        return status();
+    }
+
+    public TierRefreshStatus status() {
+        return new TierRefreshStatus(running.get(), total, processed, changed, failedIds.size(),
+                cursor > 0 ? cursor : null, startedAt, finishedAt);
+    }
+
+    private void run() {
+        try {
+            retryFailed();
+            List<MemberTier> page;
+            while (!(page = nextPage()).isEmpty()) {
+                refreshPage(page, false);
+                cursor = page.get(page.size() - 1).id();
+            }
+            finishedAt = LocalDateTime.now();
+            log.info("Tier refresh finished: processed={}, changed={}, failed={}", processed, changed, failedIds.size());
+        } catch (RuntimeException e) {
+            // finishedAt을 비워둬서 resume 시 현재 커서부터 이어간다
+            log.error("Tier refresh stopped at member id {}", cursor, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private List<MemberTier> nextPage() {
+        return jdbcTemplate.query(SELECT_PAGE_SQL,
+                (rs, i) -> new MemberTier(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                cursor, PAGE_SIZE);
+    }
+
+    /**
+     * 이전 실행에서 실패한 멤버를 페이지 크기씩 다시 조회한다. 그 사이 삭제된 멤버는 목록에서 빠진다.
+     */
+    private void retryFailed() {
+        List<Long> ids = failedIds.stream().sorted().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        log.info("Retrying {} members that failed in the previous tier refresh", ids.size());
+        for (int from = 0; from < ids.size(); from += PAGE_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + PAGE_SIZE, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            List<MemberTier> page = jdbcTemplate.query(SELECT_BY_IDS_SQL.formatted(placeholders),
+                    (rs, i) -> new MemberTier(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                    chunk.toArray());
+            failedIds.removeAll(chunk);
+            refreshPage(page, true);
+        }
+    }
+
+    /**
+     * @param retry 다시 조회하는 멤버면 processed를 두 번 세지 않는다
+     */
+    private void refreshPage(List<MemberTier> page, boolean retry) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(page.size());
+        for (MemberTier member : page) {
+            futures.add(CompletableFuture.supplyAsync(() -> riotApiClient.refreshSoloRank(member.puuid())
+                    .map(LeagueResponse::tier)
+                    .orElse("UNRANKED"), executor));
+        }
+
+        List<MemberTier> updates = new ArrayList<>();
+        for (int i = 0; i < page.size(); i++) {
+            MemberTier member = page.get(i);
+            try {
+                String tier = futures.get(i).join();
+                if (!tier.equals(member.tier())) {
+                    updates.add(new MemberTier(member.id(), member.puuid(), tier));
+                }
+            } catch (RuntimeException e) {
+                failedIds.add(member.id());
+                log.warn("Tier refresh failed for member {}: {}", member.id(), e.getMessage());
+            }
+            if (!retry) {
+                processed++;
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(UPDATE_TIER_SQL, updates, updates.size(), (ps, m) -> {
+                ps.setString(1, m.tier());
+                ps.setTimestamp(2, now);
+                ps.setLong(3, m.id());
+            });
+            changed += updates.size();
+            eventPublisher.publishEvent(new MemberStatsChangedEvent());
+        }
+    }
+
+    private record MemberTier(long id, String puuid, String tier) {}
+}
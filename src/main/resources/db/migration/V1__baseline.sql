@@ -0,0 +1,41 @@
+-- Flyway 도입 전 ddl-auto: update가 만들던 원래 스키마.
+-- 기존 DB는 baseline-on-migrate로 이 버전을 건너뛰고 V2부터 적용한다
+
+create table members (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    name varchar(255) not null,
+    riot_id varchar(255) not null,
+    riot_puuid varchar(255) not null,
+    tier varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table matches (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    played_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    info varchar(255),
+    win_side varchar(10) default 'PENDING' not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table match_players (
+    win BOOLEAN DEFAULT FALSE not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    match_id bigint not null,
+    member_id bigint not null,
+    champion_name varchar(255),
+    position varchar(255),
+    team_side enum ('BLUE','RED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+-- FK마다 MySQL이 제약 이름과 같은 인덱스를 만든다
+alter table match_players
+    add constraint FKgigmeboyk2dqb71mw4fct0j7i foreign key (match_id) references matches (id);
+alter table match_players
+    add constraint FK3m8er1mgdermaqpwdjc3xoagb foreign key (member_id) references members (id);
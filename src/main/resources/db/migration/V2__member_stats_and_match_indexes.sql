@@ -0,0 +1,36 @@
+-- 집계 테이블은 비어 있는 채로 만들어지고, 기동 시 rebuildIfMissing이 match_players에서 채운다
+
+create table member_stats (
+    losses integer not null,
+    rating double default 1500 not null,
+    rating_deviation double default 350 not null,
+    total_games integer not null,
+    wins integer not null,
+    last_played_at datetime(6),
+    member_id bigint not null,
+    updated_at datetime(6) not null default current_timestamp(6) on update current_timestamp(6),
+    primary key (member_id)
+) engine=InnoDB;
+
+create table member_champion_stats (
+    games integer not null,
+    losses integer not null,
+    wins integer not null,
+    member_id bigint not null,
+    champion_name varchar(64) not null,
+    primary key (member_id, champion_name)
+) engine=InnoDB;
+
+create table member_position_stats (
+    games integer not null,
+    losses integer not null,
+    wins integer not null,
+    member_id bigint not null,
+    position varchar(64) not null,
+    primary key (member_id, position)
+) engine=InnoDB;
+
+-- 매치 목록 keyset 페이지와 조건부 GET
+create index idx_matches_played_at_id on matches (played_at, id);
+create index idx_matches_win_side_played_at_id on matches (win_side, played_at, id);
+create index idx_matches_updated_at on matches (updated_at);
@@ -0,0 +1,47 @@
+-- 1. 같은 puuid로 두 번 등록된 멤버는 먼저 등록된 id로 합친 뒤 unique 인덱스를 건다
+create temporary table member_merge as
+select m.id as duplicate_id, k.keep_id
+from members m
+join (select riot_puuid, min(id) as keep_id
+      from members
+      group by riot_puuid
+      having count(*) > 1) k on k.riot_puuid = m.riot_puuid and m.id <> k.keep_id;
+
+update match_players mp
+join member_merge g on g.duplicate_id = mp.member_id
+set mp.member_id = g.keep_id;
+
+-- 합쳐진 멤버의 집계 행을 지우면 기동 시 rebuildIfMissing이 전체 집계를 다시 만든다
+delete s from member_stats s
+join member_merge g on s.member_id in (g.duplicate_id, g.keep_id);
+
+delete c from member_champion_stats c
+join member_merge g on c.member_id in (g.duplicate_id, g.keep_id);
+
+delete p from member_position_stats p
+join member_merge g on p.member_id in (g.duplicate_id, g.keep_id);
+
+delete m from members m
+join member_merge g on g.duplicate_id = m.id;
+
+drop temporary table member_merge;
+
+create unique index uk_members_riot_puuid on members (riot_puuid);
+create index idx_members_riot_id on members (riot_id);
+
+-- 2. enum/문자열 컬럼 축소. team_side(enum)와 win(tinyint(1))은 이미 1바이트
+alter table matches
+    modify win_side enum ('BLUE','RED','PENDING') default 'PENDING' not null;
+
+alter table match_players
+    modify champion_name varchar(64),
+    modify position varchar(64);
+
+-- 3. match_players 커버링 인덱스
+-- member 쪽: 멤버 전적 페이지, 완료 매치 필터, 멤버별 집계 재계산
+-- match 쪽: 참가자 조회, 결과 반영/집계 upsert, 레이팅·시너지 재생, 멤버 필터 EXISTS
+-- FK가 자동으로 만든 인덱스(V1)는 같은 컬럼으로 시작하는 인덱스가 생기면 InnoDB가 알아서 지운다
+create index idx_match_players_member_cover
+    on match_players (member_id, match_id, team_side, win, position, champion_name);
+create index idx_match_players_match_cover
+    on match_players (match_id, member_id, team_side, win, position, champion_name);
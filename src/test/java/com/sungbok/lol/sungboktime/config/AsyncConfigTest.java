@@ -0,0 +1,54 @@
+package com.sungbok.lol.sungboktime.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.annotation.Async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncConfigTest {
+
+    @Test
+    void virtualThreadsBelowJava21FailFast() {
+        assertThatThrownBy(() -> AsyncConfig.requireVirtualThreadSupport(true, 17))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("JAVA_VERSION=21");
+    }
+
+    @Test
+    void virtualThreadsOnJava21OrPlatformThreadsStart() {
+        assertThatCode(() -> AsyncConfig.requireVirtualThreadSupport(true, 21)).doesNotThrowAnyException();
+        assertThatCode(() -> AsyncConfig.requireVirtualThreadSupport(false, 17)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void asyncMethodsRunOnApplicationTaskExecutorNextToDedicatedExecutors() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+                .withUserConfiguration(AsyncConfig.class)
+                .withBean(RiotApiProperties.class)
+                .withBean(AsyncProbe.class)
+                .withPropertyValues("spring.task.execution.mode=force")
+                .run(context -> {
+                    assertThat(context).hasBean("applicationTaskExecutor").hasBean("riotTaskExecutor");
+                    String thread = context.getBean(AsyncProbe.class).threadName().get(5, TimeUnit.SECONDS);
+                    // 전용 executor가 아니라 Boot의 applicationTaskExecutor (기본 prefix "task-")
+                    assertThat(thread).startsWith("task-");
+                });
+    }
+
+    static class AsyncProbe {
+
+        @Async
+        public CompletableFuture<String> threadName() {
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.sungbok.lol.sungboktime.config;
+
+import com.sungbok.lol.sungboktime.dto.AccountResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class RiotApiClientTest {
+
+    private static final String ACCOUNT_URL = "https://asia.riot.test/riot/account/v1/accounts/by-riot-id/Faker/KR1";
+    private static final String ACCOUNT_JSON = "{\"puuid\":\"p-1\",\"gameName\":\"Faker\",\"tagLine\":\"KR1\"}";
+
+    private RiotApiProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private MockRestServiceServer server;
+    private RiotApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RiotApiProperties();
+        properties.setApiKey("test-key");
+        properties.setAccountBaseUrl("https://asia.riot.test");
+        properties.setLeagueBaseUrl("https://kr.riot.test");
+        properties.getRateLimit().setDefaultRetryAfter(Duration.ofMillis(10));
+
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        meterRegistry = new SimpleMeterRegistry();
+        client = new RiotApiClient(restTemplate, properties, new RiotRateLimiter(properties, meterRegistry), meterRegistry);
+    }
+
+    @Test
+    void accountLookupIsServedFromCache() {
+        server.expect(once(), requestTo(ACCOUNT_URL))
+                .andExpect(header("X-Riot-Token", "test-key"))
+                .andRespond(withSuccess(ACCOUNT_JSON, MediaType.APPLICATION_JSON));
+
+        AccountResponse first = client.getAccountByRiotId("Faker", "KR1");
+        // 키는 대소문자를 무시한다
+        AccountResponse second = client.getAccountByRiotId("faker", "kr1");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(first.puuid()).isEqualTo("p-1");
+        server.verify();
+    }
+
+    @Test
+    void notFoundIsCachedNegatively() {
+        server.expect(once(), requestTo(ACCOUNT_URL)).andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.getAccountByRiotId("Faker", "KR1"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Faker#KR1");
+        }
+        server.verify();
+    }
+
+    @Test
+    void serverErrorIsNotCached() {
+        server.expect(once(), requestTo(ACCOUNT_URL)).andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+        server.expect(once(), requestTo(ACCOUNT_URL))
+                .andRespond(withSuccess(ACCOUNT_JSON, MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> client.getAccountByRiotId("Faker", "KR1"));
+        assertThat(client.getAccountByRiotId("Faker", "KR1").puuid()).isEqualTo("p-1");
+        server.verify();
+    }
+
+    @Test
+    void errorInLoaderDoesNotLeaveAPendingEntry() throws Exception {
+        server.expect(once(), requestTo(ACCOUNT_URL)).andRespond(request -> {
+            throw new StackOverflowError("boom");
+        });
+        server.expect(once(), requestTo(ACCOUNT_URL))
+                .andRespond(withSuccess(ACCOUNT_JSON, MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> client.getAccountByRiotId("Faker", "KR1")).isInstanceOf(StackOverflowError.class);
+        // 완료되지 않은 future가 남아 있으면 다음 호출이 영원히 기다린다
+        CompletableFuture<AccountResponse> next = CompletableFuture.supplyAsync(() -> client.getAccountByRiotId("Faker", "KR1"));
+
+        assertThat(next.get(5, TimeUnit.SECONDS).puuid()).isEqualTo("p-1");
+        server.verify();
+    }
+
+    @Test
+    void rateLimitedRequestIsRetried() {
+        server.expect(once(), requestTo(ACCOUNT_URL))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "0"));
+        server.expect(once(), requestTo(ACCOUNT_URL))
+                .andRespond(withSuccess(ACCOUNT_JSON, MediaType.APPLICATION_JSON));
+
+        assertThat(client.getAccountByRiotId("Faker", "KR1").puuid()).isEqualTo("p-1");
+        server.verify();
+        assertThat(meterRegistry.get("riot.api.errors").tag("reason", "rate_limited").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rateLimitGivesUpAfterMaxRetries() {
+        properties.getRateLimit().setMaxRetries(1);
+        // Retry-After가 없으면 default-retry-after부터 지수 백오프
+        server.expect(times(2), requestTo(ACCOUNT_URL)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+
+        assertThatThrownBy(() -> client.getAccountByRiotId("Faker", "KR1"))
+                .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        server.verify();
+    }
+
+    @Test
+    void retryAfterAcceptsSecondsAndHttpDate() {
+        Instant now = Instant.parse("2015-10-21T07:27:58Z");
+
+        assertThat(RiotApiClient.retryAfter("3", now)).contains(Duration.ofSeconds(3));
+        assertThat(RiotApiClient.retryAfter("Wed, 21 Oct 2015 07:28:00 GMT", now)).contains(Duration.ofSeconds(2));
+        assertThat(RiotApiClient.retryAfter("Wed, 21 Oct 2015 07:27:00 GMT", now)).contains(Duration.ZERO);
+        assertThat(RiotApiClient.retryAfter("soon", now)).isEmpty();
+    }
+
+    @Test
+    void concurrentLookupsShareOneRequest() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        server.expect(once(), requestTo(ACCOUNT_URL)).andRespond(request -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return withSuccess(ACCOUNT_JSON, MediaType.APPLICATION_JSON).createResponse(request);
+        });
+
+        CompletableFuture<AccountResponse> first = CompletableFuture.supplyAsync(() -> client.getAccountByRiotId("Faker", "KR1"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        // 첫 호출이 응답을 기다리는 동안 들어온 호출은 Riot을 다시 부르지 않고 같은 결과를 받는다
+        CompletableFuture<AccountResponse> second = CompletableFuture.supplyAsync(() -> client.getAccountByRiotId("Faker", "KR1"));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+        server.verify();
+    }
+}
@@ -0,0 +1,72 @@
+package com.sungbok.lol.sungboktime.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RiotRateLimiterTest {
+
+    private static final String HOST = "kr.riot.test";
+
+    private RiotRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        RiotApiProperties properties = new RiotApiProperties();
+        properties.getRateLimit().setAppLimits("1000:1");
+        properties.getRateLimit().setMethodLimits(Map.of("slow", "1:60", "fast", "100:1"));
+        limiter = new RiotRateLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void freshHostIsNotPaused() {
+        long startedAt = System.nanoTime();
+
+        limiter.acquire(HOST, "fast");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(100));
+    }
+
+    @Test
+    void pauseHoldsEveryMethodOfHost() {
+        limiter.pause(HOST, Duration.ofMillis(200));
+        // 더 짧은 pause가 이미 걸린 pause를 줄이지 않는다
+        limiter.pause(HOST, Duration.ofMillis(10));
+        long startedAt = System.nanoTime();
+
+        limiter.acquire(HOST, "fast");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    @Test
+    void exhaustedMethodDoesNotBlockOtherMethods() throws Exception {
+        limiter.acquire(HOST, "slow");
+        // 다음 "slow" 토큰은 60초 뒤라 이 스레드는 대기열에서 잔다
+        Thread blocked = new Thread(() -> {
+            try {
+                limiter.acquire(HOST, "slow");
+            } catch (IllegalStateException ignored) {
+                // interrupt로 깨움
+            }
+        });
+        blocked.start();
+        while (limiter.queueDepth(HOST) == 0) {
+            Thread.onSpinWait();
+        }
+
+        CompletableFuture<Void> fast = CompletableFuture.runAsync(() -> limiter.acquire(HOST, "fast"));
+
+        fast.get(1, TimeUnit.SECONDS);
+        blocked.interrupt();
+        blocked.join(1000);
+        assertThat(blocked.isAlive()).isFalse();
+    }
+}
@@ -0,0 +1,62 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.LeaderboardResponse;
+import com.sungbok.lol.sungboktime.dto.LeaderboardResponse.Entry;
+import com.sungbok.lol.sungboktime.dto.LeaderboardResponse.LeaderboardSort;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import com.sungbok.lol.sungboktime.repository.MemberStatsView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LeaderboardServiceTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        when(memberRepository.findAllWithStats()).thenReturn(List.of(
+                view(1L, 20, 12, 1600),
+                view(2L, 2, 2, 1700),
+                view(3L, 0, 0, 1500)));
+        leaderboardService = new LeaderboardService(memberRepository);
+    }
+
+    @Test
+    void minGamesHidesNewcomersFromWinRate() {
+        LeaderboardResponse response = leaderboardService.getLeaderboard(LeaderboardSort.WIN_RATE, 5, 0, 20);
+
+        assertThat(response.minGames()).isEqualTo(5);
+        assertThat(response.entries()).extracting(Entry::memberId).containsExactly(1L);
+    }
+
+    @Test
+    void minGamesDoesNotApplyToOtherSorts() {
+        LeaderboardResponse rating = leaderboardService.getLeaderboard(LeaderboardSort.RATING, 5, 0, 20);
+        LeaderboardResponse games = leaderboardService.getLeaderboard(LeaderboardSort.GAMES, 5, 0, 20);
+
+        assertThat(rating.minGames()).isZero();
+        assertThat(rating.entries()).extracting(Entry::memberId).containsExactly(2L, 1L, 3L);
+        assertThat(games.entries()).extracting(Entry::memberId).containsExactly(1L, 2L, 3L);
+    }
+
+    private static MemberStatsView view(Long id, int games, int wins, double rating) {
+        return new MemberStatsView() {
+            public Long getId() { return id; }
+            public String getName() { return "member" + id; }
+            public String getRiotId() { return "member" + id + "#KR1"; }
+            public String getTier() { return "GOLD"; }
+            public Number getTotalGames() { return games; }
+            public Number getWins() { return wins; }
+            public Number getLosses() { return games - wins; }
+            public Number getRating() { return rating; }
+        };
+    }
+}
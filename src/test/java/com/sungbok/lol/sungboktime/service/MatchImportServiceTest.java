@@ -0,0 +1,183 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.MatchImportResponse;
+import com.sungbok.lol.sungboktime.dto.MatchImportResponse.RowError;
+import com.sungbok.lol.sungboktime.entity.Match;
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import com.sungbok.lol.sungboktime.entity.MatchPlayer;
+import com.sungbok.lol.sungboktime.repository.MatchJdbcRepository;
+import com.sungbok.lol.sungboktime.repository.MatchPlayerJdbcRepository;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchImportServiceTest {
+
+    private static final String MATCH_JSON =
+            "{\"winSide\":\"BLUE\",\"players\":[{\"memberId\":1,\"teamSide\":\"BLUE\"},{\"memberId\":2,\"teamSide\":\"RED\"}]}";
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final MatchJdbcRepository matchJdbcRepository = mock(MatchJdbcRepository.class);
+    private final MatchPlayerJdbcRepository matchPlayerJdbcRepository = mock(MatchPlayerJdbcRepository.class);
+    private final MemberStatsService memberStatsService = mock(MemberStatsService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private MatchImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        when(memberRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L, 4L));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        importService = new MatchImportService(JsonMapper.builder().build(), memberRepository, matchJdbcRepository,
+                matchPlayerJdbcRepository, memberStatsService, transactionTemplate);
+    }
+
+    @Test
+    void ndjsonSeparatesInvalidMatchesFromUnreadableLines() throws IOException {
+        String body = MATCH_JSON + "\n"
+                + "\n"
+                + "{not json\n"
+                + "{\"players\":[{\"memberId\":1,\"teamSide\":\"BLUE\"},{\"memberId\":99,\"teamSide\":\"RED\"}]}\n"
+                + MATCH_JSON + "\n";
+
+        MatchImportResponse response = importService.importNdjson(stream(body));
+
+        assertThat(response.matchesRead()).isEqualTo(3);
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(1);
+        assertThat(response.rowsRejected()).isEqualTo(1);
+        assertThat(response.errors()).extracting(RowError::line).containsExactly(3L, 4L);
+        assertThat(response.errors().get(1).message()).isEqualTo("Member not found: [99]");
+        verify(memberStatsService).rebuild();
+    }
+
+    @Test
+    void csvGroupsConsecutiveRowsByMatchKey() throws IOException {
+        String body = """
+                match_key,played_at,info,win_side,member_id,team_side,position,champion_name
+                a,2024-01-01T20:00:00,first,BLUE,1,BLUE,TOP,Garen
+                a,,,,2,RED,TOP,Darius
+                b,2024-01-02T20:00:00,,red,3,blue,,
+                b,,,,4,red,,
+                """;
+
+        MatchImportResponse response = importService.importCsv(stream(body));
+
+        assertThat(response.matchesRead()).isEqualTo(2);
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.errors()).isEmpty();
+
+        ArgumentCaptor<List<Match>> matches = listCaptor();
+        verify(matchJdbcRepository).batchInsert(matches.capture());
+        assertThat(matches.getValue()).extracting(Match::getWinSide).containsExactly(WinSide.BLUE, WinSide.RED);
+        assertThat(matches.getValue().get(0).getInfo()).isEqualTo("first");
+
+        ArgumentCaptor<List<MatchPlayer>> players = listCaptor();
+        verify(matchPlayerJdbcRepository).batchInsert(players.capture());
+        assertThat(players.getValue()).extracting(MatchPlayer::getIsWin).containsExactly(true, false, false, true);
+    }
+
+    @Test
+    void csvRowWithWrongColumnCountFailsItsMatch() throws IOException {
+        String body = """
+                a,,,BLUE,1,BLUE,,
+                a,,,BLUE,2,RED
+                b,,,BLUE,3,BLUE,,
+                b,,,BLUE,4,RED,,
+                c,,,BLUE,x,RED,,
+                """;
+
+        MatchImportResponse response = importService.importCsv(stream(body));
+
+        // a는 행 하나가 깨져서, c는 member_id가 숫자가 아니어서 실패
+        assertThat(response.matchesRead()).isEqualTo(3);
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.rowsRejected()).isEqualTo(1);
+        assertThat(response.matchesRead()).isEqualTo(response.imported() + response.failed());
+        assertThat(response.errors()).extracting(RowError::line).containsExactly(2L, 1L, 5L);
+    }
+
+    @Test
+    void csvRowWithWrongColumnCountFailsTheMatchItOpens() throws IOException {
+        String body = """
+                a,,,BLUE,1,BLUE,,
+                a,,,BLUE,2,RED,,
+                b,,,BLUE,3,BLUE
+                b,,,BLUE,4,RED,,
+                b,,,BLUE,1,RED,,
+                c,,,BLUE,3,BLUE,,
+                c,,,BLUE,4,RED,,
+                """;
+
+        MatchImportResponse response = importService.importCsv(stream(body));
+
+        // b의 첫 행이 깨졌으므로 나머지 b 행만으로 매치를 만들지 않는다
+        assertThat(response.matchesRead()).isEqualTo(3);
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(1);
+        assertThat(response.rowsRejected()).isEqualTo(1);
+        assertThat(response.errors()).extracting(RowError::line).containsExactly(3L, 3L);
+        assertThat(response.errors().get(1).message()).isEqualTo("Line 3 was rejected");
+    }
+
+    @Test
+    void largeImportIsSplitIntoChunks() throws IOException {
+        String body = (MATCH_JSON + "\n").repeat(MatchImportService.CHUNK_SIZE + 1);
+
+        MatchImportResponse response = importService.importNdjson(stream(body));
+
+        assertThat(response.imported()).isEqualTo(MatchImportService.CHUNK_SIZE + 1);
+        verify(matchJdbcRepository, times(2)).batchInsert(anyList());
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(memberStatsService).rebuild();
+    }
+
+    @Test
+    void failedChunkIsReportedPerMatchAndErrorListIsCapped() throws IOException {
+        doThrow(new IllegalStateException("deadlock")).when(matchJdbcRepository).batchInsert(anyList());
+        String body = (MATCH_JSON + "\n").repeat(MatchImportService.MAX_REPORTED_ERRORS + 50);
+
+        MatchImportResponse response = importService.importNdjson(stream(body));
+
+        assertThat(response.imported()).isZero();
+        assertThat(response.failed()).isEqualTo(MatchImportService.MAX_REPORTED_ERRORS + 50);
+        assertThat(response.errors()).hasSize(MatchImportService.MAX_REPORTED_ERRORS);
+        assertThat(response.errors().get(0).message()).isEqualTo("Insert failed: deadlock");
+        verify(memberStatsService, never()).rebuild();
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ArgumentCaptor<List<T>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
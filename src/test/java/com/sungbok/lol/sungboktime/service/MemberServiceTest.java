@@ -0,0 +1,104 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.config.RiotApiClient;
+import com.sungbok.lol.sungboktime.dto.AccountResponse;
+import com.sungbok.lol.sungboktime.dto.MemberBulkCreateResult;
+import com.sungbok.lol.sungboktime.dto.MemberCreateRequest;
+import com.sungbok.lol.sungboktime.dto.MemberResponse;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import com.sungbok.lol.sungboktime.repository.MemberStatsRepository;
+import com.sungbok.lol.sungboktime.repository.MemberStatsView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class MemberServiceTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final RiotApiClient riotApiClient = mock(RiotApiClient.class);
+    private final MemberStatsService memberStatsService = mock(MemberStatsService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private MemberService memberService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(memberRepository.findWithStatsById(any())).thenAnswer(invocation ->
+                Optional.of(view(invocation.getArgument(0))));
+        when(riotApiClient.getSoloRankByPuuid(anyString())).thenReturn(Optional.empty());
+
+        memberService = new MemberService(memberRepository, mock(MemberStatsRepository.class), riotApiClient,
+                memberStatsService, transactionTemplate, new SimpleAsyncTaskExecutor());
+    }
+
+    @Test
+    void knownRiotIdSkipsRiotApi() {
+        when(memberRepository.findIdsByRiotId("Faker#KR1")).thenReturn(List.of(7L));
+
+        MemberResponse member = memberService.createMember(new MemberCreateRequest("faker", "Faker", "KR1"));
+
+        assertThat(member.id()).isEqualTo(7L);
+        verifyNoInteractions(riotApiClient);
+        verify(memberRepository, never()).upsertByRiotPuuid(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void ambiguousRiotIdIsResolvedThroughRiot() {
+        // 같은 Riot ID가 두 멤버에 남아 있으면 puuid로 실제 주인을 찾는다
+        when(memberRepository.findIdsByRiotId("Faker#KR1")).thenReturn(List.of(7L, 9L));
+        when(riotApiClient.getAccountByRiotId("Faker", "KR1")).thenReturn(new AccountResponse("p-9", "Faker", "KR1"));
+        when(memberRepository.findIdByRiotPuuid("p-9")).thenReturn(Optional.of(9L));
+
+        MemberResponse member = memberService.createMember(new MemberCreateRequest("faker", "Faker", "KR1"));
+
+        assertThat(member.id()).isEqualTo(9L);
+        verify(memberRepository).upsertByRiotPuuid(eq("faker"), eq("Faker#KR1"), eq("p-9"), eq("UNRANKED"), any());
+        verify(memberStatsService).onMemberCreated(9L);
+    }
+
+    @Test
+    void duplicateRegistrationsInOneBulkRequestShareOneMember() {
+        when(memberRepository.findIdsByRiotId(anyString())).thenReturn(List.of());
+        when(riotApiClient.getAccountByRiotId("Faker", "KR1")).thenReturn(new AccountResponse("p-1", "Faker", "KR1"));
+        // 두 번째 upsert는 unique 인덱스에 걸려 같은 행을 갱신하므로 puuid로 다시 읽으면 같은 id
+        when(memberRepository.findIdByRiotPuuid("p-1")).thenReturn(Optional.of(1L));
+
+        List<MemberBulkCreateResult> results = memberService.createMembers(List.of(
+                new MemberCreateRequest("a", "Faker", "KR1"),
+                new MemberCreateRequest("b", "Faker", "KR1")));
+
+        assertThat(results).extracting(r -> r.member().id()).containsExactly(1L, 1L);
+        verify(memberRepository, times(2)).upsertByRiotPuuid(any(), eq("Faker#KR1"), eq("p-1"), any(), any());
+    }
+
+    private static MemberStatsView view(Long id) {
+        return new MemberStatsView() {
+            public Long getId() { return id; }
+            public String getName() { return "member" + id; }
+            public String getRiotId() { return "Faker#KR1"; }
+            public String getTier() { return "UNRANKED"; }
+            public Number getTotalGames() { return 0; }
+            public Number getWins() { return 0; }
+            public Number getLosses() { return 0; }
+            public Number getRating() { return 1500.0; }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.PlayStatResponse;
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요약 테이블 upsert는 H2가 해석하지 못하는 MySQL 문법이라 실제 MySQL에서만 돈다.
+ * 테이블을 비우므로 운영/개발 DB가 아닌 테스트 전용 DB를 TEST_MYSQL_URL(+ TEST_MYSQL_USERNAME/PASSWORD)로 지정해야 하고,
+ * 지정하지 않으면 건너뛴다. 스키마는 Flyway가 만든다.
+ * 커밋 후 캐시 무효화까지 보려고 테스트 트랜잭션은 쓰지 않는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "TEST_MYSQL_URL", matches = ".+")
+@Import(PlayStatsService.class)
+class PlayStatsServiceTest {
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("TEST_MYSQL_URL"));
+        registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("TEST_MYSQL_USERNAME", "root"));
+        registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("TEST_MYSQL_PASSWORD", ""));
+    }
+
+    private static final String[] CHAMPIONS = {"Ahri", "Garen", "Jinx", "Lux", "Thresh"};
+    private static final String[] POSITIONS = {"TOP", "JUNGLE", "MID", "ADC", "SUPPORT"};
+
+    @Autowired
+    private PlayStatsService playStatsService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long[] memberIds;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("member_champion_stats", "member_position_stats", "match_players", "matches", "members")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        memberIds = new long[10];
+        for (int i = 0; i < memberIds.length; i++) {
+            memberIds[i] = insert("INSERT INTO members (name, riot_id, riot_puuid, tier, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, 'GOLD', NOW(6), NOW(6))", "m" + i, "m" + i + "#KR1", "p-" + i);
+        }
+    }
+
+    @Test
+    void incrementalUpdatesMatchRebuild() {
+        long first = createMatch(WinSide.BLUE, 0);
+        long pending = createMatch(WinSide.PENDING, 1);
+        createMatch(WinSide.RED, 2);
+
+        // 미정 → RED, 이미 반영된 BLUE → RED 정정
+        setResult(pending, WinSide.PENDING, WinSide.RED);
+        setResult(first, WinSide.BLUE, WinSide.RED);
+
+        Map<String, List<Map<String, Object>>> incremental = snapshot();
+        playStatsService.rebuild();
+
+        assertThat(snapshot()).isEqualTo(incremental);
+        assertThat(incremental.get("champions")).isNotEmpty();
+    }
+
+    @Test
+    void globalSummaryIsRefreshedAfterCommit() {
+        createMatch(WinSide.BLUE, 0);
+        assertThat(games(playStatsService.getChampions(10))).isEqualTo(10);
+
+        createMatch(WinSide.RED, 0);
+
+        assertThat(games(playStatsService.getChampions(10))).isEqualTo(20);
+        assertThat(playStatsService.getPositions(2)).hasSize(2);
+    }
+
+    private long createMatch(WinSide winSide, int shift) {
+        long matchId = insert("INSERT INTO matches (played_at, win_side, created_at, updated_at) "
+                + "VALUES (?, ?, NOW(6), NOW(6))", Timestamp.valueOf(LocalDateTime.now()), winSide.name());
+        for (int i = 0; i < memberIds.length; i++) {
+            boolean blue = i < 5;
+            boolean win = winSide != WinSide.PENDING && (winSide == WinSide.BLUE) == blue;
+            jdbcTemplate.update("INSERT INTO match_players (match_id, member_id, team_side, win, position, champion_name, created_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, NOW(6))",
+                    matchId, memberIds[i], blue ? "BLUE" : "RED", win,
+                    POSITIONS[i % 5], CHAMPIONS[(i + shift) % CHAMPIONS.length]);
+        }
+        playStatsService.onMatchCreated(matchId, winSide);
+        return matchId;
+    }
+
+    private void setResult(long matchId, WinSide previous, WinSide current) {
+        jdbcTemplate.update("UPDATE matches SET win_side = ? WHERE id = ?", current.name(), matchId);
+        jdbcTemplate.update("UPDATE match_players SET win = (team_side = ?) WHERE match_id = ?", current.name(), matchId);
+        playStatsService.onResultChanged(matchId, previous, current);
+    }
+
+    private Map<String, List<Map<String, Object>>> snapshot() {
+        return Map.of(
+                "champions", jdbcTemplate.queryForList("SELECT member_id, champion_name, games, wins, losses "
+                        + "FROM member_champion_stats ORDER BY member_id, champion_name"),
+                "positions", jdbcTemplate.queryForList("SELECT member_id, position, games, wins, losses "
+                        + "FROM member_position_stats ORDER BY member_id, position"));
+    }
+
+    private static int games(List<PlayStatResponse> stats) {
+        return stats.stream().mapToInt(PlayStatResponse::games).sum();
+    }
+
+    private long insert(String sql, Object... args) {
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+}
@@ -0,0 +1,155 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.config.RiotApiClient;
+import com.sungbok.lol.sungboktime.dto.MatchCreateRequest;
+import com.sungbok.lol.sungboktime.dto.MatchDetailResponse;
+import com.sungbok.lol.sungboktime.dto.MatchPlayerRequest;
+import com.sungbok.lol.sungboktime.dto.MatchPlayerResponse;
+import com.sungbok.lol.sungboktime.dto.MatchResultRequest;
+import com.sungbok.lol.sungboktime.dto.MatchSearchRequest;
+import com.sungbok.lol.sungboktime.entity.Match;
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import com.sungbok.lol.sungboktime.entity.MatchPlayer.TeamSide;
+import com.sungbok.lol.sungboktime.entity.Member;
+import com.sungbok.lol.sungboktime.repository.MatchPlayerJdbcRepository;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록/상세/생성/결과 입력 경로의 Hibernate statement 수가 데이터 양과 무관하게 고정인지 확인한다 (N+1 회귀 방지).
+ * 집계/rating 서비스는 자체 SQL이라 mock으로 두고 MatchService/MemberService가 내는 statement만 센다.
+ */
+@DataJpaTest(properties = {
+        // 네이티브 쿼리가 MySQL 문법이라 H2를 MySQL 모드로 띄운다
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        // 마이그레이션은 MySQL 문법이라 엔티티 매핑으로 스키마를 만든다
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MemberService.class, MatchService.class, MatchPlayerJdbcRepository.class})
+class QueryCountTest {
+
+    private static final int MEMBERS = 20;
+
+    @MockitoBean
+    private RiotApiClient riotApiClient;
+    @MockitoBean
+    private MemberStatsService memberStatsService;
+    @MockitoBean
+    private RatingService ratingService;
+    @MockitoBean
+    private PlayStatsService playStatsService;
+    @MockitoBean(name = "riotTaskExecutor")
+    private AsyncTaskExecutor riotTaskExecutor;
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private List<Long> memberIds;
+    private Long matchId;
+
+    @BeforeEach
+    void setUp() {
+        memberIds = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            memberIds.add(memberRepository.save(Member.builder()
+                    .name("member" + i)
+                    .riotId("member" + i + "#KR1")
+                    .riotPuuid("puuid-" + i)
+                    .tier("GOLD")
+                    .build()).getId());
+        }
+        for (int i = 0; i < 30; i++) {
+            matchId = matchService.createMatch(match(WinSide.BLUE)).matchId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getMembersIsOneStatement() {
+        assertThat(memberService.getMembers()).hasSize(MEMBERS);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getMatchesIsOneStatement() {
+        assertThat(matchService.getMatches(new MatchSearchRequest(null, 10, null, null, null, null)).matches())
+                .hasSize(10);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void createMatchDoesNotLoadPlayersOneByOne() {
+        Long id = matchService.createMatch(match(WinSide.RED)).matchId();
+        entityManager.flush();
+
+        // 멤버 일괄 조회 1 + match insert 1 (match_players는 JDBC batch라 Hibernate 통계에 잡히지 않는다)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        // 같은 세션의 Match에도 players가 들어 있고, flush가 players를 다시 insert하지 않는다
+        assertThat(entityManager.find(Match.class, id).getPlayers()).hasSize(10);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getMatchDetailIsOneStatement() {
+        MatchDetailResponse detail = matchService.getMatchDetail(matchId);
+
+        assertThat(detail.players()).hasSize(10).extracting(MatchPlayerResponse::name).doesNotContainNull();
+        // match + players + member를 fetch join 한 번으로 읽는다
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void setMatchResultIsOneSelectAndTwoBulkUpdates() {
+        MatchDetailResponse detail = matchService.setMatchResult(matchId, new MatchResultRequest(WinSide.RED));
+        entityManager.flush();
+
+        assertThat(detail.players()).hasSize(10);
+        // fetch join select 1 + matches UPDATE 1 + match_players UPDATE 1 (flush할 dirty 엔티티가 없어야 한다)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    private MatchCreateRequest match(WinSide winSide) {
+        List<MatchPlayerRequest> players = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            players.add(new MatchPlayerRequest(memberIds.get(i), i < 5 ? TeamSide.BLUE : TeamSide.RED, "MID", "Ahri"));
+        }
+        return new MatchCreateRequest(LocalDateTime.now(), null, winSide, players);
+    }
+}
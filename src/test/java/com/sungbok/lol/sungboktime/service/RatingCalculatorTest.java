@@ -0,0 +1,64 @@
+package com.sungbok.lol.sungboktime.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RatingCalculatorTest {
+
+    private static final int[] BLUE = {0, 1};
+    private static final int[] RED = {2, 3};
+
+    @Test
+    void winnersGainAndLosersLoseSymmetricallyAtEqualRatings() {
+        double[] rating = {1500, 1500, 1500, 1500};
+        double[] rd = {350, 350, 350, 350};
+
+        RatingCalculator.apply(rating, rd, BLUE, 2, RED, 2, true);
+
+        assertThat(rating[0]).isGreaterThan(1500).isEqualTo(rating[1]);
+        assertThat(rating[2]).isLessThan(1500).isEqualTo(rating[3]);
+        assertThat(rating[0] - 1500).isCloseTo(1500 - rating[2], within(1e-9));
+    }
+
+    @Test
+    void ratingDeviationShrinksButNotBelowFloor() {
+        double[] rating = {1500, 1500, 1500, 1500};
+        double[] rd = {350, 350, 350, 350};
+
+        RatingCalculator.apply(rating, rd, BLUE, 2, RED, 2, false);
+        assertThat(Arrays.stream(rd).max().orElseThrow()).isLessThan(350);
+
+        for (int i = 0; i < 500; i++) {
+            RatingCalculator.apply(rating, rd, BLUE, 2, RED, 2, i % 2 == 0);
+        }
+        assertThat(rd).containsOnly(RatingCalculator.MIN_RATING_DEVIATION);
+    }
+
+    @Test
+    void upsetMovesRatingMoreThanExpectedWin() {
+        double[] expected = {1700, 1700, 1300, 1300};
+        double[] upset = expected.clone();
+        double[] rd = {100, 100, 100, 100};
+
+        RatingCalculator.apply(expected, rd.clone(), BLUE, 2, RED, 2, true);
+        RatingCalculator.apply(upset, rd.clone(), BLUE, 2, RED, 2, false);
+
+        assertThat(1700 - upset[0]).isGreaterThan(expected[0] - 1700);
+        assertThat(upset[2] - 1300).isGreaterThan(1300 - expected[2]);
+    }
+
+    @Test
+    void emptySideLeavesRatingsUntouched() {
+        double[] rating = {1500, 1600};
+        double[] rd = {350, 200};
+
+        RatingCalculator.apply(rating, rd, new int[]{0, 1}, 2, new int[0], 0, true);
+
+        assertThat(rating).containsExactly(1500, 1600);
+        assertThat(rd).containsExactly(350, 200);
+    }
+}
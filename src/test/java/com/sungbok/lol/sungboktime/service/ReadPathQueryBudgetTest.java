@@ -0,0 +1,76 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.MatchSearchRequest;
+import com.sungbok.lol.sungboktime.fixture.SeededApplication;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReadPathBenchmark와 같은 시드 fixture(규모만 줄임)에서 조회 경로별 호출당 Hibernate statement 수를 고정한다.
+ * 벤치마크는 수치를 출력만 하므로 N+1 회귀는 이 테스트가 잡는다.
+ */
+class ReadPathQueryBudgetTest {
+
+    private static final int MEMBERS = 200;
+    private static final int MATCHES = 2000;
+    private static final int CALLS = 20;
+
+    private static ConfigurableApplicationContext context;
+    private static Statistics statistics;
+    private static MemberService memberService;
+    private static MatchService matchService;
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    @BeforeAll
+    static void start() {
+        context = SeededApplication.start(MEMBERS, MATCHES);
+        statistics = SeededApplication.statistics(context);
+        memberService = context.getBean(MemberService.class);
+        matchService = context.getBean(MatchService.class);
+    }
+
+    @AfterAll
+    static void stop() {
+        context.close();
+    }
+
+    @Test
+    void getMembers() {
+        assertThat(statementsPerCall(() -> memberService.getMembers())).isEqualTo(1.0);
+    }
+
+    @Test
+    void getMatchesFirstPage() {
+        assertThat(statementsPerCall(() -> matchService.getMatches(new MatchSearchRequest(null, null, null, null, null, null))))
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void getMatchDetail() {
+        // 참가자/멤버까지 fetch join 한 번
+        assertThat(statementsPerCall(() -> matchService.getMatchDetail(1L + random.nextInt(MATCHES)))).isEqualTo(1.0);
+    }
+
+    @Test
+    void getMemberMatches() {
+        // 멤버 존재 확인 + 페이지 조회 + 페이지 참가자 일괄 조회
+        assertThat(statementsPerCall(() -> matchService.getMemberMatches(1L + random.nextInt(MEMBERS), null, null)))
+                .isEqualTo(3.0);
+    }
+
+    private static double statementsPerCall(Runnable call) {
+        long before = statistics.getPrepareStatementCount();
+        for (int i = 0; i < CALLS; i++) {
+            call.run();
+        }
+        return (double) (statistics.getPrepareStatementCount() - before) / CALLS;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sungbok.lol.sungboktime.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SynergyMatrixTest {
+
+    @Test
+    void flippingResultSubtractsPreviousContribution() {
+        SynergyMatrix matrix = new SynergyMatrix();
+        int a = matrix.indexOrAdd(10);
+        int b = matrix.indexOrAdd(20);
+        int c = matrix.indexOrAdd(30);
+        int[] blue = {a, b};
+        int[] red = {c};
+
+        matrix.apply(blue, 2, red, 1, 1);
+        // 결과가 RED 승리로 바뀜
+        matrix.apply(blue, 2, red, 1, -1);
+        matrix.apply(red, 1, blue, 2, 1);
+
+        assertThat(matrix.togetherGames(a, b)).isEqualTo(1);
+        assertThat(matrix.togetherWins(a, b)).isZero();
+        assertThat(matrix.againstGames(a, c)).isEqualTo(1);
+        assertThat(matrix.againstWins(a, c)).isZero();
+        assertThat(matrix.againstWins(c, a)).isEqualTo(1);
+    }
+
+    @Test
+    void keepsCountsAndLookupWhenGrowing() {
+        SynergyMatrix matrix = new SynergyMatrix();
+        // 내림차순으로 넣어서 정렬 삽입도 같이 확인
+        for (long id = 100; id > 0; id--) {
+            matrix.indexOrAdd(id);
+        }
+        int first = matrix.indexOf(100);
+        int second = matrix.indexOf(99);
+        matrix.apply(new int[]{first, second}, 2, new int[0], 0, 1);
+
+        for (long id = 101; id <= 200; id++) {
+            matrix.indexOrAdd(id);
+        }
+
+        assertThat(matrix.size()).isEqualTo(200);
+        assertThat(matrix.indexOf(100)).isEqualTo(first);
+        assertThat(matrix.memberId(matrix.indexOf(150))).isEqualTo(150);
+        assertThat(matrix.indexOf(500)).isEqualTo(-1);
+        assertThat(matrix.togetherWins(first, second)).isEqualTo(1);
+        assertThat(matrix.togetherWins(second, first)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,97 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.SynergyResponse.Entry;
+import com.sungbok.lol.sungboktime.entity.Match.WinSide;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SynergyServiceTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private SynergyService service;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE matches (id BIGINT PRIMARY KEY, win_side VARCHAR(10))");
+        jdbcTemplate.execute("CREATE TABLE match_players (match_id BIGINT, member_id BIGINT, team_side VARCHAR(10))");
+        when(memberRepository.existsById(any())).thenReturn(true);
+        when(memberRepository.findAllById(any())).thenReturn(List.of());
+
+        service = new SynergyService(memberRepository, database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void resultAlreadyReadByRebuildIsNotCountedTwice() {
+        // 결과가 커밋된 뒤 이벤트가 도착하기 전에 재구성이 먼저 돈 경우
+        insertMatch(1, WinSide.BLUE);
+        service.rebuild();
+
+        service.onResultChanged(new MatchResultChangedEvent(1L, List.of(1L, 2L), List.of(3L), WinSide.PENDING, WinSide.BLUE));
+
+        Entry teammate = entry(1L, 2L);
+        assertThat(teammate.togetherGames()).isEqualTo(1);
+        assertThat(teammate.togetherWins()).isEqualTo(1);
+    }
+
+    @Test
+    void correctionAfterRebuildReplacesTheRebuiltResult() {
+        insertMatch(1, WinSide.BLUE);
+        service.rebuild();
+
+        service.onResultChanged(new MatchResultChangedEvent(1L, List.of(1L, 2L), List.of(3L), WinSide.BLUE, WinSide.RED));
+
+        Entry opponent = entry(1L, 3L);
+        assertThat(opponent.againstGames()).isEqualTo(1);
+        assertThat(opponent.againstWins()).isZero();
+        assertThat(entry(1L, 2L).togetherWins()).isZero();
+    }
+
+    @Test
+    void oversizedTeamFailsRebuild() {
+        jdbcTemplate.update("INSERT INTO matches (id, win_side) VALUES (1, 'BLUE')");
+        for (long memberId = 1; memberId <= RatingCalculator.MAX_TEAM_SIZE + 1; memberId++) {
+            jdbcTemplate.update("INSERT INTO match_players VALUES (1, ?, 'BLUE')", memberId);
+        }
+
+        assertThatThrownBy(() -> service.rebuild())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Match 1");
+    }
+
+    private void insertMatch(long matchId, WinSide winSide) {
+        jdbcTemplate.update("INSERT INTO matches (id, win_side) VALUES (?, ?)", matchId, winSide.name());
+        jdbcTemplate.update("INSERT INTO match_players VALUES (?, 1, 'BLUE'), (?, 2, 'BLUE'), (?, 3, 'RED')",
+                matchId, matchId, matchId);
+    }
+
+    private Entry entry(Long memberId, Long otherId) {
+        return service.getSynergy(memberId, 1).entries().stream()
+                .filter(e -> e.memberId().equals(otherId))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,59 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.dto.TeamBalanceRequest;
+import com.sungbok.lol.sungboktime.dto.TeamBalanceResponse;
+import com.sungbok.lol.sungboktime.entity.Member;
+import com.sungbok.lol.sungboktime.repository.MemberRepository;
+import com.sungbok.lol.sungboktime.repository.MemberStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TeamBalanceServiceTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+
+    private TeamBalanceService teamBalanceService;
+
+    @BeforeEach
+    void setUp() {
+        // id 1~10만 존재
+        when(memberRepository.findAllById(any())).thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0)
+                .stream()
+                .filter(id -> id >= 1 && id <= 10)
+                .map(id -> Member.builder().id(id).name("member" + id).tier("GOLD").build())
+                .toList());
+        teamBalanceService = new TeamBalanceService(memberRepository, mock(MemberStatsRepository.class));
+    }
+
+    @Test
+    void unknownMemberIdsAreRejected() {
+        // 12명 중 2명이 없으면 10명으로 나누지 않는다
+        List<Long> ids = LongStream.rangeClosed(1, 12).boxed().toList();
+
+        assertThatThrownBy(() -> teamBalanceService.balance(request(ids)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Member not found: [11, 12]");
+    }
+
+    @Test
+    void knownMembersAreBalanced() {
+        TeamBalanceResponse response = teamBalanceService.balance(request(LongStream.rangeClosed(1, 10).boxed().toList()));
+
+        assertThat(response.blueTeam()).hasSize(5);
+        assertThat(response.redTeam()).hasSize(5);
+    }
+
+    private static TeamBalanceRequest request(List<Long> memberIds) {
+        return new TeamBalanceRequest(memberIds, null, null, null, null);
+    }
+}
@@ -0,0 +1,94 @@
+package com.sungbok.lol.sungboktime.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TeamPartitionerTest {
+
+    private static final long BUDGET = Duration.ofMillis(20).toNanos();
+
+    @Test
+    void twoEvenTeamsAreSolvedExactly() {
+        // 내림차순 greedy는 차이 300을 남기지만 최적 분할은 차이 100
+        int[] scores = {800, 800, 700, 600, 600, 500, 500, 200, 100, 100};
+
+        int[] assignment = TeamPartitioner.partition(scores, 2, 0);
+
+        assertThat(TeamPartitioner.isExact(scores.length, 2)).isTrue();
+        assertThat(TeamPartitioner.spread(TeamPartitioner.teamSums(scores, assignment, 2))).isEqualTo(100);
+        assertThat(teamSizes(assignment, 2)).containsExactly(5, 5);
+    }
+
+    @Test
+    void heuristicBalancesManyTeams() {
+        int[] scores = randomScores(40, 1);
+
+        int[] assignment = TeamPartitioner.partition(scores, 4, BUDGET);
+
+        assertThat(TeamPartitioner.isExact(scores.length, 4)).isFalse();
+        assertThat(teamSizes(assignment, 4)).containsExactly(10, 10, 10, 10);
+        // 점수 단위가 100이라 스왑으로 맞출 수 있는 최소 차이 근처까지 줄어야 한다
+        assertThat(TeamPartitioner.spread(TeamPartitioner.teamSums(scores, assignment, 4))).isLessThanOrEqualTo(200);
+    }
+
+    @Test
+    void leftoverPlayersGoToFirstTeams() {
+        int[] assignment = TeamPartitioner.partition(randomScores(11, 2), 3, BUDGET);
+
+        assertThat(teamSizes(assignment, 3)).containsExactly(4, 4, 3);
+    }
+
+    @Test
+    void zeroBudgetStillReturnsGreedySplit() {
+        int[] scores = randomScores(200, 3);
+
+        long startedAt = System.nanoTime();
+        int[] assignment = TeamPartitioner.partition(scores, 8, 0);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(200));
+        assertThat(teamSizes(assignment, 8)).containsOnly(25);
+    }
+
+    @Test
+    void rejectsTooFewPlayers() {
+        assertThatThrownBy(() -> TeamPartitioner.partition(new int[]{100, 200}, 3, BUDGET))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TeamPartitioner.partition(new int[]{100, 200}, 1, BUDGET))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void lobbiesPairNeighbouringTeams() {
+        assertThat(TeamPartitioner.lobbies(new int[]{1000, 400, 990, 410})).containsExactly(1, 0, 1, 0);
+    }
+
+    @Test
+    void oddTeamCountLeavesOneTeamWaiting() {
+        // 정렬하면 100, 110, 500, 900, 905 → 500을 빼야 남은 두 쌍의 차이가 가장 작다
+        int[] lobbies = TeamPartitioner.lobbies(new int[]{900, 100, 500, 905, 110});
+
+        assertThat(lobbies).containsExactly(1, 0, -1, 1, 0);
+    }
+
+    private static int[] randomScores(int n, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] scores = new int[n];
+        for (int i = 0; i < n; i++) {
+            scores[i] = 100 * (1 + random.nextInt(30));
+        }
+        return scores;
+    }
+
+    private static int[] teamSizes(int[] assignment, int teamCount) {
+        int[] sizes = new int[teamCount];
+        for (int team : assignment) {
+            sizes[team]++;
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,51 @@
+package com.sungbok.lol.sungboktime.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamSplitSolverTest {
+
+    private static final int[] NONE = new int[0];
+
+    @Test
+    void findsBetterSplitThanGreedy() {
+        // 내림차순 greedy는 차이 300을 남기지만 최적 분할은 차이 100
+        int[] scores = {800, 800, 700, 600, 600, 500, 500, 200, 100, 100};
+
+        int[] masks = TeamSplitSolver.solve(scores, NONE, NONE, 1);
+
+        int total = 4900;
+        assertThat(Math.abs(2 * TeamSplitSolver.sum(scores, masks[0]) - total)).isEqualTo(100);
+        assertThat(Integer.bitCount(masks[0])).isEqualTo(5);
+    }
+
+    @Test
+    void returnsAlternativesOrderedByDifference() {
+        int[] scores = {800, 700, 600, 500, 500, 400, 300, 300, 200, 100};
+
+        int[] masks = TeamSplitSolver.solve(scores, NONE, NONE, 126);
+
+        assertThat(masks).hasSize(126);
+        int prev = -1;
+        for (int mask : masks) {
+            int diff = Math.abs(2 * TeamSplitSolver.sum(scores, mask) - 4400);
+            assertThat(diff).isGreaterThanOrEqualTo(prev);
+            prev = diff;
+        }
+    }
+
+    @Test
+    void respectsTogetherAndApartConstraints() {
+        int[] scores = {800, 700, 600, 500, 500, 400, 300, 300, 200, 100};
+        int together = (1 << 0) | (1 << 1);
+        int apart = (1 << 2) | (1 << 3);
+
+        int[] masks = TeamSplitSolver.solve(scores, new int[]{together}, new int[]{apart}, 5);
+
+        for (int mask : masks) {
+            assertThat(Integer.bitCount(mask & together)).isNotEqualTo(1);
+            assertThat(Integer.bitCount(mask & apart)).isEqualTo(1);
+        }
+    }
+}
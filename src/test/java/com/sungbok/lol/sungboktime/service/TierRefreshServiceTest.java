@@ -0,0 +1,90 @@
+package com.sungbok.lol.sungboktime.service;
+
+import com.sungbok.lol.sungboktime.config.RiotApiClient;
+import com.sungbok.lol.sungboktime.dto.LeagueResponse;
+import com.sungbok.lol.sungboktime.dto.TierRefreshStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TierRefreshServiceTest {
+
+    private final RiotApiClient riotApiClient = mock(RiotApiClient.class);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TierRefreshService service;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE members (id BIGINT PRIMARY KEY, riot_puuid VARCHAR(100), "
+                + "tier VARCHAR(20), updated_at TIMESTAMP)");
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO members (id, riot_puuid, tier) VALUES (?, ?, 'UNRANKED')", id, "p-" + id);
+        }
+        when(riotApiClient.refreshSoloRank(anyString()))
+                .thenReturn(Optional.of(new LeagueResponse("RANKED_SOLO_5x5", "GOLD")));
+
+        // 코디네이터는 호출 스레드에서 바로 돌려서 start()가 끝나면 결과를 볼 수 있게 한다
+        service = new TierRefreshService(riotApiClient, jdbcTemplate, new SimpleAsyncTaskExecutor(),
+                new SyncTaskExecutor(), mock(ApplicationEventPublisher.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void resumeRetriesMembersThatFailed() {
+        when(riotApiClient.refreshSoloRank("p-2"))
+                .thenThrow(new IllegalStateException("Riot unavailable"))
+                .thenReturn(Optional.of(new LeagueResponse("RANKED_SOLO_5x5", "SILVER")));
+
+        TierRefreshStatus first = service.start(false);
+        assertThat(first.failed()).isEqualTo(1);
+        assertThat(first.processed()).isEqualTo(3);
+        assertThat(tierOf(2)).isEqualTo("UNRANKED");
+
+        TierRefreshStatus resumed = service.start(true);
+
+        assertThat(resumed.failed()).isZero();
+        assertThat(resumed.processed()).isEqualTo(3);
+        assertThat(tierOf(2)).isEqualTo("SILVER");
+        // 이미 성공한 멤버는 다시 조회하지 않는다
+        verify(riotApiClient, times(1)).refreshSoloRank("p-1");
+    }
+
+    @Test
+    void freshStartForgetsPreviousFailures() {
+        when(riotApiClient.refreshSoloRank("p-2")).thenThrow(new IllegalStateException("Riot unavailable"));
+        service.start(false);
+
+        TierRefreshStatus restarted = service.start(false);
+
+        assertThat(restarted.failed()).isEqualTo(1);
+        assertThat(restarted.processed()).isEqualTo(3);
+    }
+
+    private String tierOf(long id) {
+        return jdbcTemplate.queryForObject("SELECT tier FROM members WHERE id = ?", String.class, id);
+    }
+}
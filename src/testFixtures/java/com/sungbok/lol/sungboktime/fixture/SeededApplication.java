@@ -0,0 +1,57 @@
+package com.sungbok.lol.sungboktime.fixture;
+
+import com.sungbok.lol.sungboktime.SungbokTimeApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * H2(MySQL 모드) 위에 seed 프로필로 애플리케이션 컨텍스트를 띄워 멤버/매치를 채운다.
+ * JMH의 BenchmarkDatabase와 조회 경로 statement 예산 테스트가 같은 fixture를 쓴다.
+ */
+public final class SeededApplication {
+
+    private SeededApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(int members, int matches) {
+        // application.yml보다 우선하도록 커맨드라인 인자로 넘긴다
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        // 마이그레이션은 MySQL 문법이라 H2에서는 엔티티 매핑으로 스키마를 만든다
+        properties.put("spring.flyway.enabled", "false");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("riot.api-key", "benchmark");
+        // DataSeeder가 기동 중에 채우고 집계까지 재계산한다
+        properties.put("spring.profiles.active", "seed");
+        properties.put("seed.members", String.valueOf(members));
+        properties.put("seed.matches", String.valueOf(matches));
+        properties.put("logging.level.com.sungbok.lol.sungboktime.service.DataSeeder", "INFO");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SungbokTimeApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(properties.entrySet().stream()
+                        .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                        .toArray(String[]::new));
+        statistics(context).setStatisticsEnabled(true);
+        return context;
+    }
+
+    public static Statistics statistics(ConfigurableApplicationContext context) {
+        return context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+}